@@ -0,0 +1,66 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingDto;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code addBooking} on an item that already has bookings: user lookup, overlap check against the
+ * item's interval index and the insert. Every call books the next free day, so none is rejected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookingServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    private int itemCount;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private Dataset dataset;
+    private LocalDateTime nextStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedServer.start(WebApplicationType.NONE, "booking-benchmark-" + itemCount);
+        bookingService = context.getBean(BookingService.class);
+        dataset = Dataset.populate(context, itemCount, 42);
+        nextStart = LocalDateTime.now().plusYears(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookingDto addBooking() {
+        LocalDateTime start = nextStart;
+        nextStart = start.plusDays(1);
+        BookingDto booking = new BookingDto(null, start, start.plusHours(12), dataset.hotItem.getId(), null, null,
+                null, BookingStatus.WAITING);
+        return bookingService.addBooking(booking, dataset.booker.getId());
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.context.ApplicationContext;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.comment.Comment;
+import ru.practicum.shareit.item.comment.CommentRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic data for the service benchmarks: one heavy owner with {@link #HEAVY_OWNER_ITEMS} items,
+ * the remaining items spread over the other users, past and future bookings and a comment per item.
+ */
+final class Dataset {
+
+    static final int HEAVY_OWNER_ITEMS = 100;
+    private static final int BOOKINGS_PER_ITEM = 4;
+    private static final String[] WORDS = {"drill", "saw", "hammer", "ladder", "tent", "bike", "camera",
+            "kayak", "projector", "mixer", "sander", "stroller", "grill", "drone", "guitar", "scooter"};
+
+    final User heavyOwner;
+    final User booker;
+    final Item hotItem;
+
+    private Dataset(User heavyOwner, User booker, Item hotItem) {
+        this.heavyOwner = heavyOwner;
+        this.booker = booker;
+        this.hotItem = hotItem;
+    }
+
+    static Dataset populate(ApplicationContext context, int itemCount, long seed) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ItemRepository itemRepository = context.getBean(ItemRepository.class);
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+        CommentRepository commentRepository = context.getBean(CommentRepository.class);
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < Math.max(10, itemCount / 10); i++) {
+            users.add(new User(null, "User " + i, "user" + i + "@example.com"));
+        }
+        users = userRepository.saveAll(users);
+        User heavyOwner = users.get(0);
+        User booker = users.get(1);
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            User owner = i < HEAVY_OWNER_ITEMS ? heavyOwner : users.get(2 + random.nextInt(users.size() - 2));
+            String word = WORDS[random.nextInt(WORDS.length)];
+            items.add(new Item(null, word + " " + i, "A " + word + " in good condition, item " + i, true, owner,
+                    null));
+        }
+        items = itemRepository.saveAll(items);
+
+        List<Booking> bookings = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+        for (Item item : items) {
+            for (int b = 0; b < BOOKINGS_PER_ITEM; b++) {
+                LocalDateTime start = now.plusDays((b - BOOKINGS_PER_ITEM / 2) * 3L);
+                bookings.add(new Booking(null, start, start.plusDays(1), item, booker, BookingStatus.APPROVED));
+            }
+            comments.add(new Comment(null, "Worked well", item, booker, now.minusDays(1)));
+        }
+        bookingRepository.saveAll(bookings);
+        commentRepository.saveAll(comments);
+
+        return new Dataset(heavyOwner, booker, items.get(0));
+    }
+}
@@ -0,0 +1,36 @@
+package ru.practicum.shareit.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Starts the server's Spring context on a private in-memory H2 database, migrated by the same
+ * Flyway scripts as production.
+ */
+public final class EmbeddedServer {
+
+    private EmbeddedServer() {
+    }
+
+    public static ConfigurableApplicationContext start(WebApplicationType web, String database,
+                                                       String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN"));
+        Arrays.stream(overrides).map(override -> "--" + override).forEach(args::add);
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(web)
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,78 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Imports {@link #ITEMS} items for one owner, either one {@code addItem} call per item (one
+ * transaction and one insert each, as {@code POST /items} does) or in a single {@code addItems}
+ * call with batched inserts. The score is items per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ItemImportBenchmark {
+
+    static final int ITEMS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private Long ownerId;
+    private List<ItemDto> items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedServer.start(WebApplicationType.NONE, "item-import-benchmark",
+                "shareit.item-search.mode=substring");
+        itemService = context.getBean(ItemService.class);
+        ownerId = context.getBean(UserService.class)
+                .addUser(new UserDto(null, "Importer", "importer@example.com")).getId();
+        items = IntStream.range(0, ITEMS)
+                .mapToObj(i -> new ItemDto(null, "Imported item " + i, "Item " + i + " from the catalogue", true,
+                        null, null))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void addItemOneByOne() {
+        for (ItemDto item : items) {
+            itemService.addItem(item, ownerId);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public List<Long> addItemsBatch() {
+        return itemService.addItems(items, ownerId);
+    }
+}
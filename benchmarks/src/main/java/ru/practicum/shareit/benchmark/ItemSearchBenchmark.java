@@ -0,0 +1,104 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.item.ItemSearchIndex;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution (p50, p90, p99 in the JMH report) of {@code GET /items/search} over a catalogue
+ * of {@code itemCount} items: the first page of a common word, and a word no item contains, which
+ * has to look at every row. The catalogue is inserted with JDBC batches since only items matter here.
+ * The harness runs on H2, so it covers the SUBSTRING and INDEX modes; FULL_TEXT needs PostgreSQL
+ * and its postgresql/V4 indexes and is not measured here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemSearchBenchmark {
+
+    private static final int OWNERS = 1000;
+    private static final int BATCH_SIZE = 1000;
+    private static final int PAGE_SIZE = 20;
+    private static final String[] WORDS = {"drill", "saw", "hammer", "ladder", "tent", "bike", "camera",
+            "kayak", "projector", "mixer", "sander", "stroller", "grill", "drone", "guitar", "scooter"};
+
+    @Param({"10000", "100000", "1000000"})
+    private int itemCount;
+
+    @Param({"substring", "index"})
+    private String searchMode;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedServer.start(WebApplicationType.NONE, "item-search-" + itemCount + "-" + searchMode,
+                "shareit.item-search.mode=" + searchMode);
+        itemService = context.getBean(ItemService.class);
+        populate(context.getBean(JdbcTemplate.class), itemCount, new Random(42));
+        if ("index".equals(searchMode)) {
+            context.getBean(ItemSearchIndex.class).rebuild();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemDto> searchFirstPage() {
+        return itemService.searchItems("ladder", 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ItemDto> searchWithoutMatches() {
+        return itemService.searchItems("zeppelin", 0, PAGE_SIZE);
+    }
+
+    private static void populate(JdbcTemplate jdbcTemplate, int itemCount, Random random) {
+        List<Object[]> owners = new ArrayList<>();
+        for (int i = 1; i <= OWNERS; i++) {
+            owners.add(new Object[]{"Owner " + i, "owner" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (name, email) VALUES (?, ?)", owners);
+
+        List<Object[]> items = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= itemCount; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            items.add(new Object[]{(long) i, word + " " + i, "A " + word + " in good condition, item " + i,
+                    true, 1L + random.nextInt(OWNERS)});
+            if (items.size() == BATCH_SIZE || i == itemCount) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO items (id, name, description, available, owner_id) VALUES (?, ?, ?, ?, ?)", items);
+                items.clear();
+            }
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE items_seq RESTART WITH " + (itemCount + 50));
+    }
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.item.ItemSearchIndex;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Item search and the owner listing over a dataset of {@code itemCount} items; the owner listing
+ * always returns {@link Dataset#HEAVY_OWNER_ITEMS} items with their bookings and comments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ItemServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    private int itemCount;
+
+    @Param({"substring", "index"})
+    private String searchMode;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private Dataset dataset;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = EmbeddedServer.start(WebApplicationType.NONE, "item-benchmark-" + itemCount + "-" + searchMode,
+                "shareit.item-search.mode=" + searchMode);
+        itemService = context.getBean(ItemService.class);
+        dataset = Dataset.populate(context, itemCount, 42);
+        if ("index".equals(searchMode)) {
+            context.getBean(ItemSearchIndex.class).rebuild();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemDto> searchItems() {
+        return itemService.searchItems("ladder", 0, 20);
+    }
+
+    @Benchmark
+    public List<ItemDto> getItemsByOwner() {
+        return itemService.getItemsByOwner(dataset.heavyOwner.getId());
+    }
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.comment.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemOwnerDto;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.user.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping on detached objects, isolating the mappers from persistence costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private Booking booking;
+    private Item item;
+    private BookingShortDto last;
+    private BookingShortDto next;
+    private List<CommentDto> comments;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = new User(1L, "Owner", "owner@example.com");
+        User booker = new User(2L, "Booker", "booker@example.com");
+        ItemRequest request = new ItemRequest(3L, "Need a drill", booker, now.minusDays(5));
+        item = new Item(4L, "Drill", "Cordless drill with two batteries", true, owner, request);
+        booking = new Booking(5L, now.plusDays(1), now.plusDays(2), item, booker, BookingStatus.APPROVED);
+        last = new BookingShortDto(6L, now.minusDays(3), now.minusDays(2), 2L);
+        next = new BookingShortDto(5L, now.plusDays(1), now.plusDays(2), 2L);
+        comments = List.of(new CommentDto(7L, "Great drill", "Booker", now.minusDays(1)),
+                new CommentDto(8L, "Battery lasts long", "Booker", now.minusHours(3)));
+    }
+
+    @Benchmark
+    public BookingDto bookingToDto() {
+        return BookingMapper.toDto(booking);
+    }
+
+    @Benchmark
+    public ItemOwnerDto itemToOwnerDto() {
+        return ItemMapper.toOwnerDto(item, last, next, comments);
+    }
+}
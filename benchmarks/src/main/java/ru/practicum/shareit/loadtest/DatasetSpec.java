@@ -0,0 +1,7 @@
+package ru.practicum.shareit.loadtest;
+
+/**
+ * Row counts of the synthetic dataset and the skew of item popularity and user activity.
+ */
+record DatasetSpec(int users, int items, int requests, int bookings, int comments, double skew, long seed) {
+}
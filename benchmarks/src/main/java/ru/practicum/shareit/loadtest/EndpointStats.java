@@ -0,0 +1,84 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Latency samples and outcome counts for one endpoint of the workload. Client errors (4xx) are
+ * expected for part of the mix, such as bookings that overlap, and are counted apart from failures:
+ * 5xx responses and requests that got no response at all.
+ */
+final class EndpointStats {
+
+    private static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private final String name;
+    private long[] latencies = new long[1024];
+    private int count;
+    private long clientErrors;
+    private long failures;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long latencyNanos, int status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (status >= 500 || status < 0) {
+            failures++;
+        } else if (status >= 400) {
+            clientErrors++;
+        }
+    }
+
+    synchronized String report(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "%-18s %8d req %9.1f req/s  4xx %5.2f%%  errors %5.2f%%  p50 %7.2f  p90 %7.2f  p99 %7.2f"
+                        + "  max %8.2f ms%n",
+                name, count, count / elapsedSeconds, percent(clientErrors), percent(failures),
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 90)), millis(percentile(sorted, 99)),
+                millis(count > 0 ? sorted[count - 1] : 0)));
+        int from = 0;
+        for (int bucket = 0; bucket <= BUCKET_BOUNDS_MILLIS.length; bucket++) {
+            long bound = bucket < BUCKET_BOUNDS_MILLIS.length ? BUCKET_BOUNDS_MILLIS[bucket] * 1_000_000 : Long.MAX_VALUE;
+            int to = upperIndex(sorted, bound);
+            if (to > from) {
+                String label = bucket < BUCKET_BOUNDS_MILLIS.length
+                        ? "<= " + BUCKET_BOUNDS_MILLIS[bucket] + " ms"
+                        : "> " + BUCKET_BOUNDS_MILLIS[BUCKET_BOUNDS_MILLIS.length - 1] + " ms";
+                report.append(String.format(Locale.ROOT, "    %-12s %8d  %s%n", label, to - from,
+                        "#".repeat((int) Math.ceil(50.0 * (to - from) / count))));
+            }
+            from = to;
+        }
+        return report.toString();
+    }
+
+    private double percent(long part) {
+        return count == 0 ? 0 : 100.0 * part / count;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private static int upperIndex(long[] sorted, long bound) {
+        int index = Arrays.binarySearch(sorted, bound);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index < sorted.length && sorted[index] == bound) {
+            index++;
+        }
+        return index;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
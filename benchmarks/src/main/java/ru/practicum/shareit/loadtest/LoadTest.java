@@ -0,0 +1,170 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.benchmark.EmbeddedServer;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test: the server runs in this JVM on a synthetic H2 dataset, the gateway runs as a
+ * separate process in front of it (or is given by {@code --gateway-url}), and {@link WorkloadDriver}
+ * drives a mixed workload through the gateway and prints per-endpoint throughput, error rates and
+ * latency percentiles.
+ *
+ * <pre>
+ * --users 1000 --items 10000 --requests 2000 --bookings 100000 --comments 20000 --skew 1.1 --seed 42
+ * --duration 60s --concurrency 64 --gateway-jar path/to/gateway.jar | --gateway-url http://host:8080
+ * --gateway-pooled true|false --log-format plain|json --log-level INFO --info-sample-rate 1
+ * </pre>
+ *
+ * The logging options apply to the embedded server and a launched gateway alike; the report ends
+ * with the CPU time both processes spent during the run, to compare logging modes.
+ * {@code --gateway-pooled false} starts the gateway on Spring Boot's default request factory instead of
+ * its shared connection pool, to compare throughput with and without it.
+ */
+@Slf4j
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        DatasetSpec spec = new DatasetSpec(
+                Integer.parseInt(options.getOrDefault("users", "1000")),
+                Integer.parseInt(options.getOrDefault("items", "10000")),
+                Integer.parseInt(options.getOrDefault("requests", "2000")),
+                Integer.parseInt(options.getOrDefault("bookings", "100000")),
+                Integer.parseInt(options.getOrDefault("comments", "20000")),
+                Double.parseDouble(options.getOrDefault("skew", "1.1")),
+                Long.parseLong(options.getOrDefault("seed", "42")));
+        Duration duration = Duration.parse("PT" + options.getOrDefault("duration", "60s"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        String[] logging = {
+                "shareit.logging.format=" + options.getOrDefault("log-format", "plain"),
+                "shareit.logging.info-sample-rate=" + options.getOrDefault("info-sample-rate", "1"),
+                "logging.level.ru.practicum.shareit=" + options.getOrDefault("log-level", "INFO")};
+
+        Process gatewayProcess = null;
+        try (ConfigurableApplicationContext server = EmbeddedServer.start(WebApplicationType.SERVLET, "loadtest",
+                concat("server.port=0", logging))) {
+            new SyntheticDataGenerator(server.getBean(JdbcTemplate.class), spec).generate();
+            int serverPort = ((WebServerApplicationContext) server).getWebServer().getPort();
+
+            URI gateway;
+            if (options.containsKey("gateway-url")) {
+                gateway = URI.create(options.get("gateway-url"));
+            } else if (options.containsKey("gateway-jar")) {
+                int gatewayPort = freePort();
+                gatewayProcess = startGateway(Path.of(options.get("gateway-jar")), gatewayPort, serverPort,
+                        concat("gateway.http-client.pooled=" + options.getOrDefault("gateway-pooled", "true"),
+                                logging));
+                gateway = URI.create("http://localhost:" + gatewayPort);
+                awaitReady(gateway, gatewayProcess);
+            } else {
+                throw new IllegalArgumentException("Укажите --gateway-jar или --gateway-url");
+            }
+
+            Duration serverCpuBefore = serverCpu();
+            Duration gatewayCpuBefore = gatewayCpu(gatewayProcess);
+            String report = new WorkloadDriver(gateway, spec).run(concurrency, duration);
+            System.out.println(report);
+            System.out.printf("CPU time: server and driver %d ms, gateway %s%n",
+                    serverCpu().minus(serverCpuBefore).toMillis(),
+                    gatewayProcess != null
+                            ? gatewayCpu(gatewayProcess).minus(gatewayCpuBefore).toMillis() + " ms"
+                            : "n/a (external)");
+        } finally {
+            if (gatewayProcess != null) {
+                gatewayProcess.destroy();
+            }
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Некорректный аргумент: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private static Process startGateway(Path jar, int gatewayPort, int serverPort, String... settings)
+            throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("Не найден jar шлюза: " + jar.toAbsolutePath());
+        }
+        log.info("Starting gateway {} on port {}", jar, gatewayPort);
+        List<String> command = new ArrayList<>(List.of("java", "-jar", jar.toString(),
+                "--server.port=" + gatewayPort,
+                "--shareit-server.url=http://localhost:" + serverPort));
+        Arrays.stream(settings).map(option -> "--" + option).forEach(command::add);
+        return new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    private static void awaitReady(URI gateway, Process process) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest probe = HttpRequest.newBuilder(gateway.resolve("/actuator/health")).GET().build();
+        long deadline = System.nanoTime() + Duration.ofSeconds(60).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Шлюз завершился с кодом " + process.exitValue());
+            }
+            try {
+                if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(250);
+        }
+        throw new IllegalStateException("Шлюз не запустился за 60 секунд");
+    }
+
+    private static String[] concat(String first, String... rest) {
+        String[] all = new String[rest.length + 1];
+        all[0] = first;
+        System.arraycopy(rest, 0, all, 1, rest.length);
+        return all;
+    }
+
+    private static Duration serverCpu() {
+        return Duration.ofNanos(((com.sun.management.OperatingSystemMXBean) ManagementFactory
+                .getOperatingSystemMXBean()).getProcessCpuTime());
+    }
+
+    private static Duration gatewayCpu(Process process) {
+        return process == null ? Duration.ZERO : process.info().totalCpuDuration().orElse(Duration.ZERO);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
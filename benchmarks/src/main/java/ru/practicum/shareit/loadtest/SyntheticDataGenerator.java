@@ -0,0 +1,120 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills an empty, freshly migrated database with batched JDBC inserts. Ids are assigned by the
+ * identity columns in insertion order (items, which use a sequence, get explicit ids), so the
+ * generator knows them without reading them back.
+ * Item popularity and user activity follow Zipf distributions: a handful of items collect most
+ * bookings and comments, and a handful of users make most of them.
+ */
+@Slf4j
+final class SyntheticDataGenerator {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] WORDS = {"drill", "saw", "hammer", "ladder", "tent", "bike", "camera",
+            "kayak", "projector", "mixer", "sander", "stroller", "grill", "drone", "guitar", "scooter",
+            "tripod", "speaker", "vacuum", "heater", "canoe", "skis", "snowboard", "telescope"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatasetSpec spec;
+    private final Random random;
+    private final ZipfSampler itemPopularity;
+    private final ZipfSampler userActivity;
+
+    SyntheticDataGenerator(JdbcTemplate jdbcTemplate, DatasetSpec spec) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.spec = spec;
+        this.random = new Random(spec.seed());
+        this.itemPopularity = new ZipfSampler(spec.items(), spec.skew());
+        this.userActivity = new ZipfSampler(spec.users(), spec.skew());
+    }
+
+    static String word(int index) {
+        return WORDS[index % WORDS.length];
+    }
+
+    static int wordCount() {
+        return WORDS.length;
+    }
+
+    void generate() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= spec.users(); i++) {
+            users.add(new Object[]{"User " + i, "user" + i + "@example.com"});
+        }
+        insert("INSERT INTO users (name, email) VALUES (?, ?)", users);
+
+        List<Object[]> requests = new ArrayList<>();
+        for (int i = 1; i <= spec.requests(); i++) {
+            requests.add(new Object[]{"Looking for a " + word(random.nextInt(WORDS.length)), activeUser(),
+                    Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 90)))});
+        }
+        insert("INSERT INTO item_requests (description, requestor_id, created) VALUES (?, ?, ?)", requests);
+
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 1; i <= spec.items(); i++) {
+            String word = word(random.nextInt(WORDS.length));
+            Long requestId = spec.requests() > 0 && random.nextInt(10) == 0
+                    ? (long) (1 + random.nextInt(spec.requests())) : null;
+            items.add(new Object[]{(long) i, word + " " + i, "A " + word + " in good condition",
+                    random.nextInt(20) != 0, activeUser(), requestId});
+        }
+        insert("INSERT INTO items (id, name, description, available, owner_id, request_id) VALUES (?, ?, ?, ?, ?, ?)",
+                items);
+        // the server allocates item ids in blocks of 50 ending at the sequence value
+        jdbcTemplate.execute("ALTER SEQUENCE items_seq RESTART WITH " + (spec.items() + 50));
+
+        // per-item cursor keeps each item's bookings back to back and never overlapping
+        LocalDateTime[] nextFree = new LocalDateTime[spec.items()];
+        List<Object[]> bookings = new ArrayList<>();
+        for (int i = 0; i < spec.bookings(); i++) {
+            int item = itemPopularity.next(random);
+            LocalDateTime start = nextFree[item] != null ? nextFree[item]
+                    : now.minusDays(60).plusHours(random.nextInt(24 * 30));
+            LocalDateTime end = start.plusHours(1 + random.nextInt(72));
+            nextFree[item] = end.plusHours(random.nextInt(48));
+            String status = random.nextInt(10) < 7 ? "APPROVED" : random.nextBoolean() ? "WAITING" : "REJECTED";
+            bookings.add(new Object[]{Timestamp.valueOf(start), Timestamp.valueOf(end), item + 1L, activeUser(),
+                    status});
+        }
+        insert("INSERT INTO bookings (start_time, end_time, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?)",
+                bookings);
+
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < spec.comments(); i++) {
+            comments.add(new Object[]{"Worked fine, thanks", itemPopularity.next(random) + 1L, activeUser(),
+                    Timestamp.valueOf(now.minusHours(random.nextInt(24 * 60)))});
+        }
+        insert("INSERT INTO comments (text, item_id, author_id, created) VALUES (?, ?, ?, ?)", comments);
+
+        log.info("Generated {} users, {} requests, {} items, {} bookings, {} comments in {} ms",
+                spec.users(), spec.requests(), spec.items(), spec.bookings(), spec.comments(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    long activeUser() {
+        return userActivity.next(random) + 1L;
+    }
+
+    long popularItem() {
+        return itemPopularity.next(random) + 1L;
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+}
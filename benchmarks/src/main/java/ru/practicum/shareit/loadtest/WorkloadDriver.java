@@ -0,0 +1,121 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Replays a weighted mix of gateway calls from {@code concurrency} closed-loop clients for a fixed
+ * time. Users and items are picked with the same skew as the dataset, so popular items are also the
+ * most booked and searched ones.
+ */
+final class WorkloadDriver {
+
+    private final URI gateway;
+    private final DatasetSpec spec;
+    private final ZipfSampler userActivity;
+    private final ZipfSampler itemPopularity;
+    private final HttpClient client;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final String[] mix;
+
+    WorkloadDriver(URI gateway, DatasetSpec spec) {
+        this.gateway = gateway;
+        this.spec = spec;
+        this.userActivity = new ZipfSampler(spec.users(), spec.skew());
+        this.itemPopularity = new ZipfSampler(spec.items(), spec.skew());
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("GET /bookings", 30);
+        weights.put("GET /items/search", 30);
+        weights.put("GET /items", 20);
+        weights.put("GET /requests/all", 15);
+        weights.put("POST /bookings", 5);
+        mix = weights.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(String[]::new);
+        weights.keySet().forEach(name -> stats.put(name, new EndpointStats(name)));
+    }
+
+    String run(int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        long started = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        callOnce(ThreadLocalRandom.current());
+                    }
+                });
+            }
+            workers.shutdown();
+            workers.awaitTermination(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        StringBuilder report = new StringBuilder(String.format("%d clients for %s against %s%n",
+                concurrency, duration, gateway));
+        stats.values().forEach(endpoint -> report.append(endpoint.report(elapsedSeconds)));
+        return report.toString();
+    }
+
+    private void callOnce(Random random) {
+        String endpoint = mix[random.nextInt(mix.length)];
+        long userId = userActivity.next(random) + 1L;
+        HttpRequest.Builder request = switch (endpoint) {
+            case "GET /bookings" -> get("/bookings?state=ALL&size=20");
+            case "GET /items/search" -> get("/items/search?size=20&text="
+                    + URLEncoder.encode(SyntheticDataGenerator.word(random.nextInt(SyntheticDataGenerator.wordCount())),
+                    StandardCharsets.UTF_8));
+            case "GET /items" -> get("/items");
+            case "GET /requests/all" -> get("/requests/all?from=0&size=20");
+            default -> post("/bookings", newBooking(random));
+        };
+        request.header("X-Sharer-User-Id", String.valueOf(userId));
+
+        long started = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        stats.get(endpoint).record(System.nanoTime() - started, status);
+    }
+
+    private String newBooking(Random random) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1 + random.nextInt(3650)).withNano(0);
+        return "{\"itemId\":%d,\"start\":\"%s\",\"end\":\"%s\"}".formatted(itemPopularity.next(random) + 1L,
+                start, start.plusHours(1 + random.nextInt(48)));
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(gateway.resolve(path)).timeout(Duration.ofSeconds(30)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(gateway.resolve(path)).timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+}
@@ -1,27 +1,37 @@
 package ru.practicum.shareit.booking;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.client.BookingClient;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/bookings")
 @RequiredArgsConstructor
 @Slf4j
 @Validated
 public class BookingController {
+    static final int MAX_DECISIONS = 500;
+
     private final BookingClient bookingClient;
 
     @PostMapping
     public ResponseEntity<Object> addBooking(@RequestHeader("X-Sharer-User-Id") Long bookerId,
                                              @Valid @RequestBody BookingDto bookingDto) {
-        log.info("Gateway: POST /bookings userId={} bookingDto={}", bookerId, bookingDto);
+        log.info("Gateway: POST /bookings userId={}", bookerId);
+        log.debug("Gateway: POST /bookings payload: {}", bookingDto);
         return bookingClient.addBooking(bookerId, bookingDto);
     }
 
@@ -33,6 +43,14 @@ public class BookingController {
         return bookingClient.approveBooking(bookingId, approved, ownerId);
     }
 
+    @PatchMapping
+    public ResponseEntity<Object> decideBookings(@RequestHeader("X-Sharer-User-Id") Long ownerId,
+                                                 @RequestBody @NotEmpty @Size(max = MAX_DECISIONS)
+                                                 List<@NotNull @Valid BookingDecisionDto> decisions) {
+        log.info("Gateway: PATCH /bookings count={} userId={}", decisions.size(), ownerId);
+        return bookingClient.decideBookings(decisions, ownerId);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getBooking(@PathVariable Long bookingId,
                                              @RequestHeader("X-Sharer-User-Id") Long userId) {
@@ -42,15 +60,19 @@ public class BookingController {
 
     @GetMapping
     public ResponseEntity<Object> getBookingsByBooker(@RequestHeader("X-Sharer-User-Id") Long bookerId,
-                                                      @RequestParam(defaultValue = "ALL") BookingState state) {
-        log.info("Gateway: GET /bookings userId={} state={}", bookerId, state);
-        return bookingClient.getBookingsByBooker(bookerId, state);
+                                                      @RequestParam(defaultValue = "ALL") BookingState state,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @Positive @RequestParam(required = false) Integer size) {
+        log.info("Gateway: GET /bookings userId={} state={} cursor={} size={}", bookerId, state, cursor, size);
+        return bookingClient.getBookingsByBooker(bookerId, state, cursor, size);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getBookingsByOwner(@RequestHeader("X-Sharer-User-Id") Long ownerId,
-                                                     @RequestParam(defaultValue = "ALL") BookingState state) {
-        log.info("Gateway: GET /bookings/owner userId={} state={}", ownerId, state);
-        return bookingClient.getBookingsByOwner(ownerId, state);
+                                                     @RequestParam(defaultValue = "ALL") BookingState state,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @Positive @RequestParam(required = false) Integer size) {
+        log.info("Gateway: GET /bookings/owner userId={} state={} cursor={} size={}", ownerId, state, cursor, size);
+        return bookingClient.getBookingsByOwner(ownerId, state, cursor, size);
     }
 }
\ No newline at end of file
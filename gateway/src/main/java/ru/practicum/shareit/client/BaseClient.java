@@ -1,22 +1,44 @@
 package ru.practicum.shareit.client;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.logging.RequestIdFilter;
 
 public class BaseClient {
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "transfer-encoding",
+            "te", "trailer", "upgrade", "proxy-authenticate", "proxy-authorization");
+
     protected final RestTemplate rest;
+    private final GatewayResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+    private final String clientName;
 
-    public BaseClient(RestTemplate rest) {
+    public BaseClient(RestTemplate rest, GatewayResponseCache responseCache, MeterRegistry meterRegistry) {
         this.rest = rest;
+        this.responseCache = responseCache;
+        this.meterRegistry = meterRegistry;
+        this.clientName = getClass().getSimpleName();
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -31,6 +53,36 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
+    protected ResponseEntity<Object> cachedGet(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        if (!responseCache.isEnabled()) {
+            return get(path, userId, parameters);
+        }
+        String key = GatewayResponseCache.key(
+                rest.getUriTemplateHandler().expand(path, parameters != null ? parameters : Map.of()), userId);
+        GatewayResponseCache.CachedResponse cached = responseCache.get(key);
+        if (cached != null && cached.isFresh()) {
+            return cached.toResponse();
+        }
+
+        HttpHeaders headers = defaultHeaders(userId);
+        if (cached != null && cached.etag() != null) {
+            headers.setIfNoneMatch(cached.etag());
+        }
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            shareitServerResponse = exchange(HttpMethod.GET, path, new HttpEntity<>(headers), parameters);
+        } catch (HttpStatusCodeException e) {
+            return prepareErrorResponse(e);
+        }
+        if (cached != null && shareitServerResponse.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+            return responseCache.revalidated(key, cached, shareitServerResponse.getHeaders()).toResponse();
+        }
+        if (shareitServerResponse.getStatusCode().is2xxSuccessful()) {
+            responseCache.put(key, shareitServerResponse);
+        }
+        return prepareGatewayResponse(shareitServerResponse);
+    }
+
     protected <T> ResponseEntity<Object> post(String path, T body) {
         return post(path, null, null, body);
     }
@@ -79,22 +131,111 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    /**
+     * Copies a GET response body to the caller's stream as it arrives instead of buffering it.
+     * The server call is made now, on the request thread, so an error status is relayed as is
+     * before anything is committed; only a successful body is written later from an async one.
+     */
+    protected ResponseEntity<StreamingResponseBody> stream(String path, MediaType mediaType) {
+        HttpHeaders headers = defaultHeaders(null);
+        headers.setAccept(List.of(mediaType));
+        ClientHttpResponse response;
+        try {
+            ClientHttpRequest request = rest.getRequestFactory()
+                    .createRequest(rest.getUriTemplateHandler().expand(path), HttpMethod.GET);
+            request.getHeaders().putAll(headers);
+            response = request.execute();
+        } catch (IOException e) {
+            throw streamFailed(path, e);
+        }
+        try {
+            HttpStatusCode status = response.getStatusCode();
+            HttpHeaders responseHeaders = passThroughHeaders(response.getHeaders());
+            if (status.isError()) {
+                byte[] error;
+                try (response) {
+                    error = response.getBody().readAllBytes();
+                }
+                StreamingResponseBody body = out -> out.write(error);
+                return new ResponseEntity<>(body, responseHeaders, status);
+            }
+            if (responseHeaders.getContentType() == null) {
+                responseHeaders.setContentType(mediaType);
+            }
+            StreamingResponseBody body = out -> {
+                try (response) {
+                    response.getBody().transferTo(out);
+                }
+            };
+            return new ResponseEntity<>(body, responseHeaders, status);
+        } catch (IOException e) {
+            response.close();
+            throw streamFailed(path, e);
+        }
+    }
+
+    private static ResourceAccessException streamFailed(String path, IOException e) {
+        return new ResourceAccessException("I/O error on GET request for \"" + path + "\": " + e.getMessage(), e);
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
-        ResponseEntity<Object> shareitServerResponse;
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
-            } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
-            }
+            shareitServerResponse = exchange(method, path, requestEntity, parameters);
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return prepareErrorResponse(e);
         }
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    /**
+     * Runs {@code evictions} once the server has accepted a write, so that only the cached reads the
+     * write may have changed are dropped; a rejected write leaves the cache alone.
+     */
+    protected ResponseEntity<Object> evictOnSuccess(ResponseEntity<Object> response, Runnable evictions) {
+        if (response.getStatusCode().is2xxSuccessful()) {
+            evictions.run();
+        }
+        return response;
+    }
+
+    /**
+     * Evicts cached reads by server path pattern and user, see {@link GatewayResponseCache#invalidate}.
+     */
+    protected void evict(String pathPattern, @Nullable Long userId) {
+        responseCache.invalidate(pathPattern, userId);
+    }
+
+    /**
+     * Calls the server and times the call under {@code shareit.gateway.client.requests}, tagged by
+     * client, HTTP method and the server's status ({@code IO_ERROR} when no response arrived).
+     */
+    private <T> ResponseEntity<byte[]> exchange(HttpMethod method, String path, HttpEntity<T> requestEntity,
+                                                @Nullable Map<String, Object> parameters) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ResponseEntity<byte[]> response = parameters != null
+                    ? rest.exchange(path, method, requestEntity, byte[].class, parameters)
+                    : rest.exchange(path, method, requestEntity, byte[].class);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } catch (HttpStatusCodeException e) {
+            status = String.valueOf(e.getStatusCode().value());
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("shareit.gateway.client.requests")
+                    .description("Calls from the gateway to the ShareIt server")
+                    .tag("client", clientName)
+                    .tag("method", method.name())
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
     private HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -102,20 +243,36 @@ public class BaseClient {
         if (userId != null) {
             headers.set("X-Sharer-User-Id", String.valueOf(userId));
         }
+        String requestId = MDC.get(RequestIdFilter.MDC_KEY);
+        if (requestId != null) {
+            headers.set(RequestIdFilter.HEADER, requestId);
+        }
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
-
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    /**
+     * Relays the server's status, end-to-end headers and body bytes as they are; the body is
+     * never parsed here, only the inbound DTOs are validated by the controllers.
+     */
+    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        return new ResponseEntity<>(response.getBody(), passThroughHeaders(response.getHeaders()),
+                response.getStatusCode());
+    }
 
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
-        }
+    private static ResponseEntity<Object> prepareErrorResponse(HttpStatusCodeException e) {
+        HttpHeaders headers = e.getResponseHeaders() != null ? passThroughHeaders(e.getResponseHeaders()) : null;
+        return new ResponseEntity<>(e.getResponseBodyAsByteArray(), headers, e.getStatusCode());
+    }
 
-        return responseBuilder.build();
+    static HttpHeaders passThroughHeaders(HttpHeaders serverHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        serverHeaders.forEach((name, values) -> {
+            // the gateway sets its own request id; a cached one would belong to an earlier request
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))
+                    && !RequestIdFilter.HEADER.equalsIgnoreCase(name)) {
+                headers.put(name, values);
+            }
+        });
+        return headers;
     }
 }
\ No newline at end of file
@@ -1,30 +1,42 @@
 package ru.practicum.shareit.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
+    private static final String ITEMS_PREFIX = "/items";
 
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         GatewayResponseCache responseCache, MeterRegistry meterRegistry) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .build()
+                        .build(),
+                responseCache,
+                meterRegistry
         );
     }
 
     public ResponseEntity<Object> addBooking(Long bookerId, BookingDto dto) {
-        return post("", bookerId, dto);
+        // the item owner's views show the next booking; the owner is not known here, so the
+        // item is evicted for every user and so are the owners' item lists
+        return evictOnSuccess(post("", bookerId, dto), () -> {
+            evict(ITEMS_PREFIX + "/" + dto.getItemId(), null);
+            evict(ITEMS_PREFIX, null);
+        });
     }
 
     public ResponseEntity<Object> approveBooking(Long bookingId, Boolean approved, Long ownerId) {
@@ -32,7 +44,11 @@ public class BookingClient extends BaseClient {
         parameters.put("approved", approved);
         String path = "/" + bookingId + "?approved={approved}";
 
-        return patch(path, ownerId, parameters, null);
+        return evictOnSuccess(patch(path, ownerId, parameters, null), () -> evict(ITEMS_PREFIX + "*", ownerId));
+    }
+
+    public ResponseEntity<Object> decideBookings(List<BookingDecisionDto> decisions, Long ownerId) {
+        return evictOnSuccess(patch("", ownerId, decisions), () -> evict(ITEMS_PREFIX + "*", ownerId));
     }
 
     public ResponseEntity<Object> getBooking(Long bookingId, Long userId) {
@@ -40,17 +56,27 @@ public class BookingClient extends BaseClient {
         return get(path, userId, null);
     }
 
-    public ResponseEntity<Object> getBookingsByBooker(Long bookerId, BookingState state) {
-        String path = "?state={state}";
-        Map<String, Object> parameters = Map.of("state", state.name());
-
-        return get(path, bookerId, parameters);
+    public ResponseEntity<Object> getBookingsByBooker(Long bookerId, BookingState state, String cursor, Integer size) {
+        return getBookings("", bookerId, state, cursor, size);
     }
 
-    public ResponseEntity<Object> getBookingsByOwner(Long ownerId, BookingState state) {
-        String path = "/owner?state={state}";
-        Map<String, Object> parameters = Map.of("state", state.name());
+    public ResponseEntity<Object> getBookingsByOwner(Long ownerId, BookingState state, String cursor, Integer size) {
+        return getBookings("/owner", ownerId, state, cursor, size);
+    }
 
-        return get(path, ownerId, parameters);
+    private ResponseEntity<Object> getBookings(String prefix, Long userId, BookingState state,
+                                               String cursor, Integer size) {
+        StringBuilder path = new StringBuilder(prefix).append("?state={state}");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state.name());
+        if (cursor != null) {
+            path.append("&cursor={cursor}");
+            parameters.put("cursor", cursor);
+        }
+        if (size != null) {
+            path.append("&size={size}");
+            parameters.put("size", size);
+        }
+        return get(path.toString(), userId, parameters);
     }
 }
\ No newline at end of file
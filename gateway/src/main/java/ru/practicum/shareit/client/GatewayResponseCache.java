@@ -0,0 +1,138 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of server GET responses keyed by server path, query and {@code X-Sharer-User-Id}.
+ * Entries follow the server's {@code Cache-Control}: they are served as-is while within {@code max-age}
+ * and revalidated with {@code If-None-Match} afterwards. A successful write through a client evicts
+ * only the paths it may have changed, see {@link #invalidate(String, Long)}.
+ */
+@Component
+public class GatewayResponseCache {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final Cache<String, CachedResponse> cache;
+    private final Duration ttl;
+
+    public GatewayResponseCache(GatewayResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.ttl = properties.ttl();
+        if (!properties.enabled()) {
+            cache = null;
+            return;
+        }
+        cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumSize().toBytes())
+                .weigher((String key, CachedResponse value) -> key.length() + value.size())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway-responses");
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    @Nullable
+    public CachedResponse get(String key) {
+        return cache == null ? null : cache.getIfPresent(key);
+    }
+
+    public void put(String key, ResponseEntity<byte[]> response) {
+        String cacheControl = response.getHeaders().getCacheControl();
+        if (cache == null || (cacheControl != null && cacheControl.contains("no-store"))) {
+            return;
+        }
+        long freshNanos = freshNanos(cacheControl);
+        if (response.getHeaders().getETag() == null && freshNanos == 0) {
+            return;
+        }
+        cache.put(key, new CachedResponse(response.getStatusCode(),
+                BaseClient.passThroughHeaders(response.getHeaders()), response.getBody(),
+                System.nanoTime() + freshNanos));
+    }
+
+    public CachedResponse revalidated(String key, CachedResponse entry, HttpHeaders notModifiedHeaders) {
+        CachedResponse refreshed = new CachedResponse(entry.status(), entry.headers(), entry.body(),
+                System.nanoTime() + freshNanos(notModifiedHeaders.getCacheControl()));
+        if (cache != null) {
+            cache.put(key, refreshed);
+        }
+        return refreshed;
+    }
+
+    /**
+     * Evicts the entries under a server path, e.g. {@code /items/5}; a trailing {@code *} also
+     * matches every path below it, so {@code /items*} covers {@code /items}, {@code /items/5} and
+     * {@code /items/search}. The query string is ignored. A null {@code userId} evicts the entries
+     * of every user, otherwise only those cached for that {@code X-Sharer-User-Id}.
+     */
+    public void invalidate(String pathPattern, @Nullable Long userId) {
+        if (cache == null) {
+            return;
+        }
+        boolean subtree = pathPattern.endsWith("*");
+        String base = subtree ? pathPattern.substring(0, pathPattern.length() - 1) : pathPattern;
+        String user = userId != null ? String.valueOf(userId) : null;
+        cache.asMap().keySet().removeIf(key -> {
+            int separator = key.lastIndexOf('|');
+            if (user != null && !key.substring(separator + 1).equals(user)) {
+                return false;
+            }
+            int query = key.indexOf('?');
+            String path = key.substring(0, query >= 0 && query < separator ? query : separator);
+            return path.equals(base) || (subtree && path.startsWith(base + "/"));
+        });
+    }
+
+    static String key(URI uri, @Nullable Long userId) {
+        String query = uri.getRawQuery();
+        return uri.getRawPath() + (query != null ? "?" + query : "") + "|" + userId;
+    }
+
+    private long freshNanos(@Nullable String cacheControl) {
+        if (cacheControl == null || cacheControl.contains("no-cache")) {
+            return 0;
+        }
+        Matcher matcher = MAX_AGE.matcher(cacheControl);
+        if (!matcher.find()) {
+            return 0;
+        }
+        return Math.min(Duration.ofSeconds(Long.parseLong(matcher.group(1))).toNanos(), ttl.toNanos());
+    }
+
+    public record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, long freshUntil) {
+
+        public boolean isFresh() {
+            return freshUntil - System.nanoTime() > 0;
+        }
+
+        int size() {
+            return body != null ? body.length : 0;
+        }
+
+        @Nullable
+        public String etag() {
+            return headers.getETag();
+        }
+
+        public ResponseEntity<Object> toResponse() {
+            return new ResponseEntity<>(body, headers, status);
+        }
+    }
+}
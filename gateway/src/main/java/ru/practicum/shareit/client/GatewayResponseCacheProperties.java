@@ -0,0 +1,20 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Gateway response cache settings.
+ *
+ * @param enabled     false forwards every GET to the server
+ * @param maximumSize total size of cached response bodies before the least valuable ones are dropped
+ * @param ttl         longest time a response is kept, fresh or not; also caps the server's max-age
+ */
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public record GatewayResponseCacheProperties(@DefaultValue("true") boolean enabled,
+                                             @DefaultValue("64MB") DataSize maximumSize,
+                                             @DefaultValue("5m") Duration ttl) {
+}
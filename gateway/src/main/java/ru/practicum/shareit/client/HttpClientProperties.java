@@ -0,0 +1,27 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and timeouts of the HTTP client shared by the gateway clients.
+ *
+ * @param pooled                   false leaves the request factory to Spring Boot's defaults
+ * @param maxTotal                 open connections across all routes
+ * @param maxPerRoute              open connections to one host; the gateway talks to one server
+ * @param connectTimeout           TCP connect timeout
+ * @param connectionRequestTimeout how long a call waits for a pooled connection before failing
+ * @param responseTimeout          how long a call waits for the server's response
+ * @param keepAlive                idle time after which a pooled connection is closed
+ */
+@ConfigurationProperties(prefix = "gateway.http-client")
+public record HttpClientProperties(@DefaultValue("true") boolean pooled,
+                                   @DefaultValue("200") int maxTotal,
+                                   @DefaultValue("200") int maxPerRoute,
+                                   @DefaultValue("2s") Duration connectTimeout,
+                                   @DefaultValue("2s") Duration connectionRequestTimeout,
+                                   @DefaultValue("30s") Duration responseTimeout,
+                                   @DefaultValue("30s") Duration keepAlive) {
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
@@ -8,6 +9,8 @@ import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -15,40 +18,72 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     public ItemClient(@Value("${shareit-server.url}") String serverUrl,
-                      RestTemplateBuilder builder) {
+                      RestTemplateBuilder builder,
+                      GatewayResponseCache responseCache, MeterRegistry meterRegistry) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .build()
+                        .build(),
+                responseCache,
+                meterRegistry
         );
     }
 
     public ResponseEntity<Object> addItem(Long ownerId, ItemDto itemDto) {
-        return post("", ownerId, itemDto);
+        return evictOnSuccess(post("", ownerId, itemDto),
+                () -> evictNewItems(ownerId, itemDto.getRequestId() != null));
+    }
+
+    public ResponseEntity<Object> addItems(Long ownerId, List<ItemDto> itemDtos) {
+        boolean answersRequest = itemDtos.stream().anyMatch(itemDto -> itemDto.getRequestId() != null);
+        return evictOnSuccess(post("/batch", ownerId, itemDtos), () -> evictNewItems(ownerId, answersRequest));
     }
 
     public ResponseEntity<Object> updateItem(Long itemId, Long ownerId, ItemDto itemDto) {
         String path = "/" + itemId;
-        return patch(path, ownerId, itemDto);
+        // every user sees the item, and it may be listed as an answer under any request
+        return evictOnSuccess(patch(path, ownerId, itemDto), () -> {
+            evict(API_PREFIX + path, null);
+            evict(API_PREFIX, ownerId);
+            evict(API_PREFIX + "/search", null);
+            evict("/requests*", null);
+        });
     }
 
     public ResponseEntity<Object> getItemById(Long itemId, Long requesterId) {
         String path = "/" + itemId;
-        return get(path, requesterId, null);
+        return cachedGet(path, requesterId, null);
     }
 
     public ResponseEntity<Object> getItemsByOwner(Long ownerId) {
-        return get("", ownerId, null);
+        return cachedGet("", ownerId, null);
     }
 
-    public ResponseEntity<Object> searchItems(String text) {
-        String path = "/search?text={text}";
-        Map<String, Object> parameters = Map.of("text", text);
-        return get(path, null, parameters);
+    public ResponseEntity<Object> searchItems(String text, int from, Integer size) {
+        StringBuilder path = new StringBuilder("/search?text={text}&from={from}");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("text", text);
+        parameters.put("from", from);
+        if (size != null) {
+            path.append("&size={size}");
+            parameters.put("size", size);
+        }
+        return cachedGet(path.toString(), null, parameters);
     }
 
     public ResponseEntity<Object> addComment(Long itemId, Long userId, CommentDto commentDto) {
         String path = "/" + itemId + "/comment";
-        return post(path, userId, commentDto);
+        return evictOnSuccess(post(path, userId, commentDto), () -> {
+            evict(API_PREFIX + "/" + itemId, null);
+            evict(API_PREFIX, null);
+        });
+    }
+
+    private void evictNewItems(Long ownerId, boolean answersRequest) {
+        evict(API_PREFIX, ownerId);
+        evict(API_PREFIX + "/search", null);
+        if (answersRequest) {
+            evict("/requests*", null);
+        }
     }
 }
\ No newline at end of file
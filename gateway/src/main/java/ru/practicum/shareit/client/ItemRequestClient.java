@@ -1,5 +1,6 @@
 package ru.practicum.shareit.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
@@ -15,20 +16,26 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl,
-                             RestTemplateBuilder builder) {
+                             RestTemplateBuilder builder,
+                             GatewayResponseCache responseCache, MeterRegistry meterRegistry) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .build()
+                        .build(),
+                responseCache,
+                meterRegistry
         );
     }
 
     public ResponseEntity<Object> createRequest(Long userId, ItemRequestDto requestDto) {
-        return post("", userId, requestDto);
+        return evictOnSuccess(post("", userId, requestDto), () -> {
+            evict(API_PREFIX, userId);
+            evict(API_PREFIX + "/all", null);
+        });
     }
 
     public ResponseEntity<Object> getUserRequests(Long userId) {
-        return get("", userId);
+        return cachedGet("", userId, null);
     }
 
     public ResponseEntity<Object> getAllRequests(Long userId, int from, int size) {
@@ -36,11 +43,11 @@ public class ItemRequestClient extends BaseClient {
         Map<String, Object> params = new HashMap<>();
         params.put("from", from);
         params.put("size", size);
-        return get(path, userId, params);
+        return cachedGet(path, userId, params);
     }
 
     public ResponseEntity<Object> getRequestById(Long userId, Long requestId) {
         String path = "/" + requestId;
-        return get(path, userId);
+        return cachedGet(path, userId, null);
     }
 }
\ No newline at end of file
@@ -1,23 +1,33 @@
 package ru.practicum.shareit.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     public UserClient(@Value("${shareit-server.url}") String serverUrl,
-                      RestTemplateBuilder builder) {
+                      RestTemplateBuilder builder,
+                      GatewayResponseCache responseCache,
+                      MeterRegistry meterRegistry) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .build()
+                        .build(),
+                responseCache,
+                meterRegistry
         );
     }
 
@@ -27,7 +37,8 @@ public class UserClient extends BaseClient {
 
     public ResponseEntity<Object> updateUser(Long userId, UserDto userDto) {
         String path = "/" + userId;
-        return patch(path, userDto);
+        // user names are shown as comment authors, so every cached item view may change
+        return evictOnSuccess(patch(path, userDto), () -> evict("/items*", null));
     }
 
     public ResponseEntity<Object> getUser(Long userId) {
@@ -35,8 +46,22 @@ public class UserClient extends BaseClient {
         return get(path);
     }
 
-    public ResponseEntity<Object> getUsers() {
-        return get("");
+    public ResponseEntity<Object> getUsers(String cursor, Integer size) {
+        StringBuilder path = new StringBuilder();
+        Map<String, Object> parameters = new HashMap<>();
+        if (cursor != null) {
+            path.append(path.isEmpty() ? "?" : "&").append("cursor={cursor}");
+            parameters.put("cursor", cursor);
+        }
+        if (size != null) {
+            path.append(path.isEmpty() ? "?" : "&").append("size={size}");
+            parameters.put("size", size);
+        }
+        return get(path.toString(), null, parameters);
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return stream("/export", MediaType.APPLICATION_NDJSON);
     }
 
     public ResponseEntity<Object> deleteUser(Long userId) {
@@ -1,6 +1,10 @@
 package ru.practicum.shareit.item;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +14,8 @@ import ru.practicum.shareit.client.ItemClient;
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/items")
 @RequiredArgsConstructor
@@ -17,20 +23,32 @@ import ru.practicum.shareit.item.dto.ItemDto;
 @Validated
 public class ItemController {
 
+    static final int MAX_BATCH_ITEMS = 10_000;
+
     private final ItemClient itemClient;
 
     @PostMapping
     public ResponseEntity<Object> addItem(@Valid @RequestBody ItemDto itemDto,
                                           @RequestHeader("X-Sharer-User-Id") Long ownerId) {
-        log.info("Gateway: POST /items userId={} itemDto={}", ownerId, itemDto);
+        log.info("Gateway: POST /items userId={}", ownerId);
+        log.debug("Gateway: POST /items payload: {}", itemDto);
         return itemClient.addItem(ownerId, itemDto);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Object> addItems(@RequestBody @NotEmpty @Size(max = MAX_BATCH_ITEMS)
+                                           List<@Valid ItemDto> itemDtos,
+                                           @RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        log.info("Gateway: POST /items/batch count={} userId={}", itemDtos.size(), ownerId);
+        return itemClient.addItems(ownerId, itemDtos);
+    }
+
     @PatchMapping("/{itemId}")
     public ResponseEntity<Object> updateItem(@PathVariable Long itemId,
                                              @RequestBody ItemDto itemDto,
                                              @RequestHeader("X-Sharer-User-Id") Long ownerId) {
-        log.info("Gateway: PATCH /items/{} userId={} itemDto={}", itemId, ownerId, itemDto);
+        log.info("Gateway: PATCH /items/{} userId={}", itemId, ownerId);
+        log.debug("Gateway: PATCH /items/{} payload: {}", itemId, itemDto);
         return itemClient.updateItem(itemId, ownerId, itemDto);
     }
 
@@ -48,16 +66,19 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItems(@RequestParam String text) {
-        log.info("Gateway: GET /items/search text={}", text);
-        return itemClient.searchItems(text);
+    public ResponseEntity<Object> searchItems(@RequestParam String text,
+                                              @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") int from,
+                                              @Positive @RequestParam(name = "size", required = false) Integer size) {
+        log.info("Gateway: GET /items/search text={} from={} size={}", text, from, size);
+        return itemClient.searchItems(text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
     public ResponseEntity<Object> addComment(@PathVariable Long itemId,
                                              @RequestHeader("X-Sharer-User-Id") Long userId,
                                              @RequestBody CommentDto commentDto) {
-        log.info("Gateway: POST /items/{}/comment userId={} commentDto={}", itemId, userId, commentDto);
+        log.info("Gateway: POST /items/{}/comment userId={}", itemId, userId);
+        log.debug("Gateway: POST /items/{}/comment payload: {}", itemId, commentDto);
         return itemClient.addComment(itemId, userId, commentDto);
     }
 }
\ No newline at end of file
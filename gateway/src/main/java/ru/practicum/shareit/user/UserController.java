@@ -1,15 +1,20 @@
 package ru.practicum.shareit.user;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.client.UserClient;
 import ru.practicum.shareit.user.dto.UserDto;
 
 @RestController
 @RequestMapping("/users")
 @RequiredArgsConstructor
+@Validated
 public class UserController {
 
     private final UserClient userClient;
@@ -30,8 +35,14 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> getUsers() {
-        return userClient.getUsers();
+    public ResponseEntity<Object> getUsers(@RequestParam(required = false) String cursor,
+                                           @Positive @RequestParam(required = false) Integer size) {
+        return userClient.getUsers(cursor, size);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return userClient.exportUsers();
     }
 
     @DeleteMapping("/{userId}")
@@ -0,0 +1,131 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends a burst of concurrent requests through the gateway to a stub server that answers after a
+ * fixed delay, once on a small Tomcat worker pool and once on virtual threads. The pool holds a
+ * worker for the whole server call, so it cannot finish faster than {@code REQUESTS / PLATFORM_THREADS}
+ * rounds of that delay; virtual threads must finish well inside that bound. The timed run is tagged
+ * {@code benchmark} and only runs with {@code -Pbenchmark}; the default suite sends a small burst.
+ */
+@Slf4j
+class GatewayConcurrencyBenchmarkTest {
+
+    private static final int REQUESTS = 1000;
+    private static final int SMOKE_REQUESTS = 20;
+    private static final long SERVER_LATENCY_MILLIS = 200;
+    private static final int PLATFORM_THREADS = 50;
+    private static final long POOL_LIMITED_MILLIS =
+            (REQUESTS + PLATFORM_THREADS - 1) / PLATFORM_THREADS * SERVER_LATENCY_MILLIS;
+    private static final byte[] BODY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private static HttpServer stubServer;
+
+    @BeforeAll
+    static void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), REQUESTS);
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.createContext("/", exchange -> {
+            try {
+                Thread.sleep(SERVER_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(BODY);
+            }
+        });
+        stubServer.start();
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @ParameterizedTest(name = "virtual threads: {0}")
+    @ValueSource(booleans = {false, true})
+    void testBurstThroughGateway_allRequestsSucceed(boolean virtualThreads) {
+        try (ConfigurableApplicationContext gateway = startGateway(virtualThreads)) {
+            assertThat(gateway.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class))
+                    .isEqualTo(virtualThreads);
+            assertThat(sendBurst(gateway, SMOKE_REQUESTS)).hasSize(SMOKE_REQUESTS).containsOnly(200);
+        }
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest(name = "virtual threads: {0}")
+    @ValueSource(booleans = {false, true})
+    void testBurstThroughGateway_virtualThreadsBeatPoolLimit(boolean virtualThreads) {
+        try (ConfigurableApplicationContext gateway = startGateway(virtualThreads)) {
+            long started = System.nanoTime();
+            List<Integer> statuses = sendBurst(gateway, REQUESTS);
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+            log.info("Gateway burst: virtualThreads={}, {} requests, {} ms server latency, {} ms total, "
+                            + "{} ms pool-limited", virtualThreads, REQUESTS, SERVER_LATENCY_MILLIS, elapsedMillis,
+                    POOL_LIMITED_MILLIS);
+            assertThat(statuses).containsOnly(200);
+            if (virtualThreads) {
+                assertThat(elapsedMillis).isLessThan(POOL_LIMITED_MILLIS / 2);
+            } else {
+                assertThat(elapsedMillis).isGreaterThanOrEqualTo(POOL_LIMITED_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Passes the settings as command-line arguments: {@code SpringApplicationBuilder.properties} only
+     * sets defaults, which the gateway's application.properties overrides.
+     */
+    private static ConfigurableApplicationContext startGateway(boolean virtualThreads) {
+        return new SpringApplicationBuilder(ShareItGateway.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                "--shareit-server.url=http://localhost:" + stubServer.getAddress().getPort(),
+                "--gateway.http-client.max-total=" + REQUESTS,
+                "--gateway.http-client.max-per-route=" + REQUESTS,
+                "--gateway.http-client.connection-request-timeout=30s");
+    }
+
+    private static List<Integer> sendBurst(ConfigurableApplicationContext gateway, int requests) {
+        String port = gateway.getEnvironment().getProperty("local.server.port");
+        URI uri = URI.create("http://localhost:" + port + "/users");
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            List<CompletableFuture<HttpResponse<Void>>> responses = IntStream.range(0, requests)
+                    .mapToObj(i -> client.sendAsync(HttpRequest.newBuilder(uri).GET().build(),
+                            HttpResponse.BodyHandlers.discarding()))
+                    .toList();
+            return responses.stream().map(CompletableFuture::join).map(HttpResponse::statusCode).toList();
+        }
+    }
+}
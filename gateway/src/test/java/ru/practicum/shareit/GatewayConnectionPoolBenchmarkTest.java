@@ -0,0 +1,128 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives a fixed number of requests from concurrent callers through the gateway to a stub server with
+ * a short delay, once on the shared pooled HttpClient ({@code gateway.http-client.pooled=true}) and
+ * once on Spring Boot's default request factory, and logs the throughput of each. The timed run is
+ * tagged {@code benchmark} and only runs with {@code -Pbenchmark}; the default suite checks that both
+ * modes start and proxy.
+ */
+@Slf4j
+class GatewayConnectionPoolBenchmarkTest {
+
+    private static final int CALLERS = 64;
+    private static final int REQUESTS_PER_CALLER = 100;
+    private static final int WARMUP_PER_CALLER = 10;
+    private static final long SERVER_LATENCY_MILLIS = 5;
+    private static final byte[] BODY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private static HttpServer stubServer;
+
+    @BeforeAll
+    static void startStubServer() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), CALLERS * 2);
+        stubServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stubServer.createContext("/", exchange -> {
+            try {
+                Thread.sleep(SERVER_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(BODY);
+            }
+        });
+        stubServer.start();
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @ParameterizedTest(name = "pooled: {0}")
+    @ValueSource(booleans = {true, false})
+    void testProxy_worksWithAndWithoutSharedPool(boolean pooled) {
+        try (ConfigurableApplicationContext gateway = startGateway(pooled)) {
+            assertThat(gateway.getBeanNamesForType(PoolingHttpClientConnectionManager.class))
+                    .hasSize(pooled ? 1 : 0);
+            assertThat(drive(gateway, 2, 5)).containsOnly(200);
+        }
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest(name = "pooled: {0}")
+    @ValueSource(booleans = {true, false})
+    void testProxy_throughputWithAndWithoutSharedPool(boolean pooled) {
+        try (ConfigurableApplicationContext gateway = startGateway(pooled)) {
+            drive(gateway, CALLERS, WARMUP_PER_CALLER);
+
+            long started = System.nanoTime();
+            List<Integer> statuses = drive(gateway, CALLERS, REQUESTS_PER_CALLER);
+            long elapsedNanos = System.nanoTime() - started;
+
+            log.info("Gateway pool: pooled={}, {} callers x {} requests, {} ms server latency, {} ms total, "
+                            + "{} requests/s", pooled, CALLERS, REQUESTS_PER_CALLER, SERVER_LATENCY_MILLIS,
+                    elapsedNanos / 1_000_000, statuses.size() * 1_000_000_000L / elapsedNanos);
+            assertThat(statuses).hasSize(CALLERS * REQUESTS_PER_CALLER).containsOnly(200);
+        }
+    }
+
+    /**
+     * Passes the settings as command-line arguments: {@code SpringApplicationBuilder.properties} only
+     * sets defaults, which the gateway's application.properties overrides.
+     */
+    private static ConfigurableApplicationContext startGateway(boolean pooled) {
+        return new SpringApplicationBuilder(ShareItGateway.class).run(
+                "--server.port=0",
+                "--shareit-server.url=http://localhost:" + stubServer.getAddress().getPort(),
+                "--gateway.http-client.pooled=" + pooled);
+    }
+
+    /**
+     * Each caller sends its requests one after another, so at most {@code callers} are in flight.
+     */
+    private static List<Integer> drive(ConfigurableApplicationContext gateway, int callers, int requestsPerCaller) {
+        String port = gateway.getEnvironment().getProperty("local.server.port");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users")).GET().build();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().executor(executor).build()) {
+            List<CompletableFuture<List<Integer>>> results = IntStream.range(0, callers)
+                    .mapToObj(caller -> CompletableFuture.supplyAsync(() -> IntStream.range(0, requestsPerCaller)
+                            .mapToObj(i -> client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                                    .join().statusCode())
+                            .toList(), executor))
+                    .toList();
+            return results.stream().flatMap(result -> result.join().stream()).toList();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.function.RequestPredicates;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Proxies full booking pages through the gateway. The stub answers as the server does, a bare JSON
+ * array of the largest page it serves with the cursor in {@code X-Next-Cursor}; body and cursor must
+ * arrive unchanged. The {@code benchmark}-tagged run, only under {@code -Pbenchmark}, logs allocation
+ * per request and p50/p99 latency of the byte pass-through against a deserializing baseline route.
+ */
+@Slf4j
+class GatewayPassThroughBenchmarkTest {
+
+    // shareit.booking.pagination.max-page-size on the server
+    private static final int BOOKINGS = 100;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String BASELINE_PATH = "/baseline/bookings";
+    private static final int WARMUP = 50;
+    private static final int REQUESTS = 500;
+
+    private static HttpServer stubServer;
+    private static byte[] bookings;
+    private static String nextCursor;
+
+    @BeforeAll
+    static void startStubServer() throws IOException {
+        bookings = IntStream.range(0, BOOKINGS)
+                .mapToObj(i -> ("{\"id\":%d,\"start\":\"2030-01-01T10:00:00\",\"end\":\"2030-01-02T10:00:00\","
+                        + "\"itemId\":%d,\"bookerId\":7,"
+                        + "\"item\":{\"id\":%d,\"name\":\"Item %d\",\"description\":\"Description %d\","
+                        + "\"available\":true,\"requestId\":null,\"comments\":null},"
+                        + "\"booker\":{\"id\":7,\"name\":\"Booker\",\"email\":\"booker@example.com\"},"
+                        + "\"status\":\"APPROVED\"}").formatted(i, i, i, i, i))
+                .collect(Collectors.joining(",", "[", "]"))
+                .getBytes(StandardCharsets.UTF_8);
+        // encoded like BookingCursor: the last row's start time and id
+        nextCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("2030-01-01T10:00|" + (BOOKINGS - 1)).getBytes(StandardCharsets.UTF_8));
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.createContext("/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.getResponseHeaders().set(NEXT_CURSOR_HEADER, nextCursor);
+            exchange.sendResponseHeaders(200, bookings.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(bookings);
+            }
+        });
+        stubServer.start();
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    void testGetBookings_relaysServerBytesUnchanged() throws Exception {
+        try (ConfigurableApplicationContext gateway = startGateway();
+             HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<byte[]> response = client.send(bookingsRequest(gateway, "/bookings"),
+                    HttpResponse.BodyHandlers.ofByteArray());
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue("Content-Type")).hasValue("application/json");
+            assertThat(response.headers().firstValue(NEXT_CURSOR_HEADER)).hasValue(nextCursor);
+            assertThat(response.body()).isEqualTo(bookings);
+        }
+    }
+
+    @Tag("benchmark")
+    @Test
+    void testGetBookings_passThroughAgainstDeserializingBaseline() throws Exception {
+        try (ConfigurableApplicationContext gateway = startGateway();
+             HttpClient client = HttpClient.newHttpClient()) {
+            Measurement baseline = measure(client, bookingsRequest(gateway, BASELINE_PATH));
+            Measurement passThrough = measure(client, bookingsRequest(gateway, "/bookings"));
+
+            log.info("Gateway deserializing baseline: {} bytes body, ~{} bytes allocated/request, p50 {} us, "
+                            + "p99 {} us", bookings.length, baseline.allocatedPerRequest(), baseline.p50Micros(),
+                    baseline.p99Micros());
+            log.info("Gateway pass-through: {} bytes body, ~{} bytes allocated/request, p50 {} us, p99 {} us",
+                    bookings.length, passThrough.allocatedPerRequest(), passThrough.p50Micros(),
+                    passThrough.p99Micros());
+            assertThat(baseline.last().statusCode()).isEqualTo(200);
+            assertThat(baseline.last().headers().firstValue(NEXT_CURSOR_HEADER)).hasValue(nextCursor);
+            assertThat(passThrough.last().statusCode()).isEqualTo(200);
+            assertThat(passThrough.last().headers().firstValue(NEXT_CURSOR_HEADER)).hasValue(nextCursor);
+            assertThat(passThrough.last().body()).isEqualTo(bookings);
+        }
+    }
+
+    /**
+     * Starts the gateway in front of the stub, with the baseline route next to its own controllers. The
+     * settings are command-line arguments: {@code SpringApplicationBuilder.properties} only sets
+     * defaults, which the gateway's application.properties overrides.
+     */
+    private static ConfigurableApplicationContext startGateway() {
+        String serverUrl = "http://localhost:" + stubServer.getAddress().getPort();
+        return new SpringApplicationBuilder(ShareItGateway.class)
+                .initializers(context -> ((GenericApplicationContext) context).registerBean(
+                        "deserializingBaseline", RouterFunction.class, () -> deserializingBaseline(
+                                context.getBean(RestTemplateBuilder.class).rootUri(serverUrl).build())))
+                .run("--server.port=0", "--shareit-server.url=" + serverUrl);
+    }
+
+    /**
+     * The proxy path before the byte pass-through: the server's JSON is read into maps on the pooled
+     * {@code RestTemplate} the clients share and written back out by Jackson.
+     */
+    private static RouterFunction<ServerResponse> deserializingBaseline(RestTemplate rest) {
+        return RouterFunctions.route(RequestPredicates.GET(BASELINE_PATH), request -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+            headers.set("X-Sharer-User-Id", request.headers().firstHeader("X-Sharer-User-Id"));
+            ResponseEntity<Object> response = rest.exchange("/bookings?size={size}", HttpMethod.GET,
+                    new HttpEntity<>(headers), Object.class, BOOKINGS);
+            return ServerResponse.status(response.getStatusCode())
+                    .header(NEXT_CURSOR_HEADER, response.getHeaders().getFirst(NEXT_CURSOR_HEADER))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(response.getBody());
+        });
+    }
+
+    private static HttpRequest bookingsRequest(ConfigurableApplicationContext gateway, String path) {
+        String port = gateway.getEnvironment().getProperty("local.server.port");
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path + "?size=" + BOOKINGS))
+                .header("X-Sharer-User-Id", "7")
+                .GET()
+                .build();
+    }
+
+    /**
+     * Allocation is summed over every thread of this JVM, so it includes the stub and the test client;
+     * both paths share that overhead, and the difference between them is the gateway's.
+     */
+    private static Measurement measure(HttpClient client, HttpRequest request) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] latencies = new long[REQUESTS];
+        HttpResponse<byte[]> response = null;
+        long allocatedBefore = totalAllocatedBytes(threads);
+        for (int i = 0; i < REQUESTS; i++) {
+            long started = System.nanoTime();
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            latencies[i] = System.nanoTime() - started;
+        }
+        long allocatedPerRequest = (totalAllocatedBytes(threads) - allocatedBefore) / REQUESTS;
+        Arrays.sort(latencies);
+        return new Measurement(allocatedPerRequest, latencies[REQUESTS / 2] / 1_000,
+                latencies[REQUESTS * 99 / 100] / 1_000, response);
+    }
+
+    private static long totalAllocatedBytes(com.sun.management.ThreadMXBean threads) {
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+
+    private record Measurement(long allocatedPerRequest, long p50Micros, long p99Micros,
+                               HttpResponse<byte[]> last) {
+    }
+}
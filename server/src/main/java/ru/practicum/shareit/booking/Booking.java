@@ -4,11 +4,14 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.DynamicUpdate;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.user.User;
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Table(name = "bookings")
 @Data
 @NoArgsConstructor
@@ -25,11 +28,13 @@ public class Booking {
     @Column(name = "end_time", nullable = false)
     private LocalDateTime endTime;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @ToString.Exclude
     @JoinColumn(name = "item_id", nullable = false)
     private Item item;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @ToString.Exclude
     @JoinColumn(name = "booker_id", nullable = false)
     private User booker;
 
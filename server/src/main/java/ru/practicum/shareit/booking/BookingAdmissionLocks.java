@@ -0,0 +1,37 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped per-item locks that serialize booking admission for one item inside this instance.
+ * Across instances the exclusion constraint on the bookings table has the final word.
+ */
+@Component
+public class BookingAdmissionLocks {
+
+    private final ReentrantLock[] stripes;
+
+    public BookingAdmissionLocks(@Value("${shareit.booking.admission-lock-stripes:64}") int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Количество блокировок должно быть положительным");
+        }
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withItemLock(Long itemId, Supplier<T> action) {
+        ReentrantLock lock = stripes[Math.floorMod(itemId.hashCode(), stripes.length)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
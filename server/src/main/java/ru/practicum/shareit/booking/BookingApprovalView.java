@@ -0,0 +1,11 @@
+package ru.practicum.shareit.booking;
+
+public interface BookingApprovalView {
+    Long getId();
+
+    Long getItemId();
+
+    BookingStatus getStatus();
+
+    Long getOwnerId();
+}
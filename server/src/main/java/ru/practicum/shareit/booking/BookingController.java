@@ -1,8 +1,12 @@
 package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingState;
 
 import java.util.List;
@@ -12,6 +16,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookingController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final BookingService bookingService;
 
     @PostMapping
@@ -27,6 +33,12 @@ public class BookingController {
         return bookingService.approveBooking(bookingId, approved, ownerId);
     }
 
+    @PatchMapping
+    public List<BookingDecisionResultDto> decideBookings(@RequestHeader("X-Sharer-User-Id") Long ownerId,
+                                                         @RequestBody List<BookingDecisionDto> decisions) {
+        return bookingService.decideBookings(decisions, ownerId);
+    }
+
     @GetMapping("/{bookingId}")
     public BookingDto getBooking(@PathVariable Long bookingId,
                                  @RequestHeader("X-Sharer-User-Id") Long userId) {
@@ -34,14 +46,26 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDto> getBookingsByBooker(@RequestHeader("X-Sharer-User-Id") Long bookerId,
-                                                @RequestParam(defaultValue = "ALL") BookingState state) {
-        return bookingService.getBookingsByBooker(bookerId, state);
+    public ResponseEntity<List<BookingDto>> getBookingsByBooker(@RequestHeader("X-Sharer-User-Id") Long bookerId,
+                                                                @RequestParam(defaultValue = "ALL") BookingState state,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size) {
+        return toResponse(bookingService.getBookingsByBooker(bookerId, state, cursor, size));
     }
 
     @GetMapping("/owner")
-    public List<BookingDto> getBookingsByOwner(@RequestHeader("X-Sharer-User-Id") Long ownerId,
-                                               @RequestParam(defaultValue = "ALL") BookingState state) {
-        return bookingService.getBookingsByOwner(ownerId, state);
+    public ResponseEntity<List<BookingDto>> getBookingsByOwner(@RequestHeader("X-Sharer-User-Id") Long ownerId,
+                                                               @RequestParam(defaultValue = "ALL") BookingState state,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Integer size) {
+        return toResponse(bookingService.getBookingsByOwner(ownerId, state, cursor, size));
+    }
+
+    private static ResponseEntity<List<BookingDto>> toResponse(BookingPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.bookings());
     }
 }
\ No newline at end of file
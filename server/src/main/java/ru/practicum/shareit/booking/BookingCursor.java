@@ -0,0 +1,44 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opaque keyset cursor over bookings ordered by (start_time DESC, id DESC).
+ */
+final class BookingCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private BookingCursor() {
+    }
+
+    static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("startTime", LocalDateTime.parse(raw.substring(0, separator)));
+            keys.put("id", Long.parseLong(raw.substring(separator + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Некорректный курсор");
+        }
+    }
+
+    static String encode(Booking booking) {
+        // start_time keeps microseconds; an entity saved in this transaction still holds nanoseconds
+        String raw = booking.getStartTime().truncatedTo(ChronoUnit.MICROS) + SEPARATOR + booking.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
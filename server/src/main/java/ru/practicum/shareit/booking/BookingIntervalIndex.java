@@ -0,0 +1,164 @@
+package ru.practicum.shareit.booking;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory index of active (WAITING/APPROVED) reservations per item.
+ * Timelines are warmed lazily from the database on first access and kept up to date
+ * by {@link BookingServiceImpl}; a timeline touched by a transaction that does not commit
+ * is evicted and rebuilt on next access.
+ */
+@Slf4j
+@Component
+public class BookingIntervalIndex {
+
+    static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.APPROVED, BookingStatus.WAITING);
+
+    private final BookingRepository bookingRepository;
+    private final ConcurrentMap<Long, ItemTimeline> timelines = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer rebuilds;
+
+    public BookingIntervalIndex(BookingRepository bookingRepository, MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        this.hits = meterRegistry.counter("booking.overlap.index.hits");
+        this.misses = meterRegistry.counter("booking.overlap.index.misses");
+        this.rebuilds = meterRegistry.timer("booking.overlap.index.rebuilds");
+        Gauge.builder("booking.overlap.index.items", timelines, Map::size).register(meterRegistry);
+    }
+
+    public boolean overlaps(Long itemId, LocalDateTime start, LocalDateTime end) {
+        return timeline(itemId).overlaps(start, end);
+    }
+
+    public void update(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        evictOnRollback(itemId);
+        timelines.computeIfPresent(itemId, (id, timeline) -> {
+            if (ACTIVE_STATUSES.contains(booking.getStatus())) {
+                timeline.put(booking.getId(), booking.getStartTime(), booking.getEndTime());
+            } else {
+                timeline.remove(booking.getId());
+            }
+            return timeline;
+        });
+    }
+
+    public void release(Long itemId, Long bookingId) {
+        evictOnRollback(itemId);
+        timelines.computeIfPresent(itemId, (id, timeline) -> {
+            timeline.remove(bookingId);
+            return timeline;
+        });
+    }
+
+    public void evict(Long itemId) {
+        if (timelines.remove(itemId) != null) {
+            log.debug("Evicted booking timeline for itemId={}", itemId);
+        }
+    }
+
+    private ItemTimeline timeline(Long itemId) {
+        ItemTimeline timeline = timelines.get(itemId);
+        if (timeline != null) {
+            hits.increment();
+            return timeline;
+        }
+        misses.increment();
+        evictOnRollback(itemId);
+        return timelines.computeIfAbsent(itemId, this::load);
+    }
+
+    private ItemTimeline load(Long itemId) {
+        return rebuilds.record(() -> {
+            ItemTimeline timeline = new ItemTimeline();
+            List<Booking> active = bookingRepository.findByItemIdAndStatusIn(itemId, ACTIVE_STATUSES);
+            active.forEach(b -> timeline.put(b.getId(), b.getStartTime(), b.getEndTime()));
+            log.debug("Built booking timeline for itemId={} from {} active bookings", itemId, active.size());
+            return timeline;
+        });
+    }
+
+    private void evictOnRollback(Long itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evict(itemId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Reservations of a single item. {@code occupied} is the union of all reservations
+     * as disjoint [start, end) ranges keyed by start, so an overlap check is one lookup.
+     */
+    static class ItemTimeline {
+        private final Map<Long, LocalDateTime[]> reservations = new HashMap<>();
+        private final NavigableMap<LocalDateTime, LocalDateTime> occupied = new TreeMap<>();
+
+        synchronized boolean overlaps(LocalDateTime start, LocalDateTime end) {
+            Map.Entry<LocalDateTime, LocalDateTime> range = occupied.lowerEntry(end);
+            return range != null && range.getValue().isAfter(start);
+        }
+
+        synchronized void put(Long bookingId, LocalDateTime start, LocalDateTime end) {
+            LocalDateTime[] previous = reservations.put(bookingId, new LocalDateTime[]{start, end});
+            if (previous == null) {
+                occupy(start, end);
+            } else if (!previous[0].equals(start) || !previous[1].equals(end)) {
+                rebuild();
+            }
+        }
+
+        synchronized void remove(Long bookingId) {
+            if (reservations.remove(bookingId) != null) {
+                rebuild();
+            }
+        }
+
+        private void rebuild() {
+            occupied.clear();
+            reservations.values().forEach(r -> occupy(r[0], r[1]));
+        }
+
+        private void occupy(LocalDateTime start, LocalDateTime end) {
+            Map.Entry<LocalDateTime, LocalDateTime> before = occupied.floorEntry(start);
+            if (before != null && !before.getValue().isBefore(start)) {
+                start = before.getKey();
+                if (before.getValue().isAfter(end)) {
+                    end = before.getValue();
+                }
+            }
+            NavigableMap<LocalDateTime, LocalDateTime> absorbed = occupied.subMap(start, true, end, true);
+            for (LocalDateTime rangeEnd : absorbed.values()) {
+                if (rangeEnd.isAfter(end)) {
+                    end = rangeEnd;
+                }
+            }
+            absorbed.clear();
+            occupied.put(start, end);
+        }
+    }
+}
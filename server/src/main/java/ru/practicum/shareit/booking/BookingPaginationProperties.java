@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Booking list pagination settings.
+ *
+ * @param maxPageSize upper bound for the {@code size} parameter; requests without {@code size} get a page of this size
+ */
+@ConfigurationProperties(prefix = "shareit.booking.pagination")
+public record BookingPaginationProperties(@DefaultValue("100") int maxPageSize) {
+}
@@ -1,37 +1,105 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findByBookerIdOrderByStartTimeDesc(Long bookerId);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findWithItemAndBookerById(Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Booking b SET b.status = :status
+            WHERE b.id = :id
+              AND b.status = ru.practicum.shareit.booking.BookingStatus.WAITING
+              AND b.item.id IN (SELECT i.id FROM Item i WHERE i.owner.id = :ownerId)
+            """)
+    int decideWaiting(@Param("id") Long id, @Param("ownerId") Long ownerId, @Param("status") BookingStatus status);
+
+    @Query("""
+            SELECT b.id AS id, b.item.id AS itemId, b.status AS status, b.item.owner.id AS ownerId
+            FROM Booking b WHERE b.id = :id
+            """)
+    Optional<BookingApprovalView> findApprovalViewById(@Param("id") Long id);
+
+    @Query("""
+            SELECT b.id AS id, b.item.id AS itemId, b.status AS status, b.item.owner.id AS ownerId
+            FROM Booking b WHERE b.id IN :ids
+            """)
+    List<BookingApprovalView> findApprovalViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByBookerIdOrderByStartTimeDescIdDesc(Long bookerId, ScrollPosition position, Limit limit);
 
     Optional<Booking> findFirstByItemIdAndStartTimeBeforeOrderByStartTimeDesc(Long itemId, LocalDateTime now);
 
     Optional<Booking> findFirstByItemIdAndStartTimeAfterOrderByStartTimeAsc(Long itemId, LocalDateTime now);
 
+    @Query(value = """
+            SELECT ranked.id AS id, ranked.item_id AS itemId, ranked.start_time AS startTime,
+                   ranked.end_time AS endTime, ranked.booker_id AS bookerId, ranked.slot AS slot
+            FROM (
+                SELECT b.id, b.item_id, b.start_time, b.end_time, b.booker_id,
+                       CASE WHEN b.start_time < :now THEN 'LAST' ELSE 'NEXT' END AS slot,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY b.item_id, CASE WHEN b.start_time < :now THEN 0 ELSE 1 END
+                           ORDER BY CASE WHEN b.start_time < :now THEN b.start_time END DESC, b.start_time ASC
+                       ) AS rn
+                FROM bookings b
+                WHERE b.item_id IN (:itemIds) AND b.start_time <> :now
+            ) ranked
+            WHERE ranked.rn = 1
+            """, nativeQuery = true)
+    List<BookingShortView> findLastAndNextByItemIdIn(@Param("itemIds") Collection<Long> itemIds,
+                                                     @Param("now") LocalDateTime now);
+
     List<Booking> findByItemIdAndStatusIn(Long itemId, List<BookingStatus> statuses);
 
-    List<Booking> findByBookerIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeDesc(Long bookerId, LocalDateTime now1, LocalDateTime now2);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByBookerIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeDescIdDesc(Long bookerId, LocalDateTime now1, LocalDateTime now2,
+            ScrollPosition position, Limit limit);
 
-    List<Booking> findByBookerIdAndEndTimeBeforeOrderByStartTimeDesc(Long bookerId, LocalDateTime now);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByBookerIdAndEndTimeBeforeOrderByStartTimeDescIdDesc(Long bookerId, LocalDateTime now,
+            ScrollPosition position, Limit limit);
 
-    List<Booking> findByBookerIdAndStartTimeAfterOrderByStartTimeDesc(Long bookerId, LocalDateTime now);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByBookerIdAndStartTimeAfterOrderByStartTimeDescIdDesc(Long bookerId, LocalDateTime now,
+            ScrollPosition position, Limit limit);
 
-    List<Booking> findByBookerIdAndStatusOrderByStartTimeDesc(Long bookerId, BookingStatus status);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByBookerIdAndStatusOrderByStartTimeDescIdDesc(Long bookerId, BookingStatus status,
+            ScrollPosition position, Limit limit);
 
     List<Booking> findByBookerIdAndItemIdAndStatus(Long bookerId, Long itemId, BookingStatus status);
 
-    List<Booking> findByItemOwnerIdOrderByStartTimeDesc(Long ownerId);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByItemOwnerIdOrderByStartTimeDescIdDesc(Long ownerId, ScrollPosition position, Limit limit);
 
-    List<Booking> findByItemOwnerIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeDesc(Long ownerId, LocalDateTime now1, LocalDateTime now2);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByItemOwnerIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeDescIdDesc(Long ownerId, LocalDateTime now1, LocalDateTime now2,
+            ScrollPosition position, Limit limit);
 
-    List<Booking> findByItemOwnerIdAndEndTimeBeforeOrderByStartTimeDesc(Long ownerId, LocalDateTime now);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByItemOwnerIdAndEndTimeBeforeOrderByStartTimeDescIdDesc(Long ownerId, LocalDateTime now,
+            ScrollPosition position, Limit limit);
 
-    List<Booking> findByItemOwnerIdAndStartTimeAfterOrderByStartTimeDesc(Long ownerId, LocalDateTime now);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByItemOwnerIdAndStartTimeAfterOrderByStartTimeDescIdDesc(Long ownerId, LocalDateTime now,
+            ScrollPosition position, Limit limit);
 
-    List<Booking> findByItemOwnerIdAndStatusOrderByStartTimeDesc(Long ownerId, BookingStatus status);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Window<Booking> findByItemOwnerIdAndStatusOrderByStartTimeDescIdDesc(Long ownerId, BookingStatus status,
+            ScrollPosition position, Limit limit);
 }
\ No newline at end of file
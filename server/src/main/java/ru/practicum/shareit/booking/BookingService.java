@@ -1,6 +1,9 @@
 package ru.practicum.shareit.booking;
 
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingState;
 
 import java.util.List;
@@ -10,9 +13,11 @@ public interface BookingService {
 
     BookingDto approveBooking(Long bookingId, Boolean approved, Long ownerId);
 
+    List<BookingDecisionResultDto> decideBookings(List<BookingDecisionDto> decisions, Long ownerId);
+
     BookingDto getBooking(Long bookingId, Long userId);
 
-    List<BookingDto> getBookingsByBooker(Long bookerId, BookingState state);
+    BookingPage getBookingsByBooker(Long bookerId, BookingState state, String cursor, Integer size);
 
-    List<BookingDto> getBookingsByOwner(Long ownerId, BookingState state);
+    BookingPage getBookingsByOwner(Long ownerId, BookingState state, String cursor, Integer size);
 }
\ No newline at end of file
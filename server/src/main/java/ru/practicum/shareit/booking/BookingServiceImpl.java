@@ -1,36 +1,71 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.exception.BookingAlreadyProcessedException;
 import ru.practicum.shareit.exception.ForbiddenException;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.user.User;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserCache;
+import ru.practicum.shareit.user.UserSummary;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Timed(value = "shareit.service", histogram = true)
 public class BookingServiceImpl implements BookingService {
 
+    private static final String NOT_FOUND = "Бронирование не найдено";
+    private static final String NOT_OWNER = "Подтверждать бронирование может только владелец вещи";
+    private static final String ALREADY_PROCESSED = "Бронирование уже обработано";
+    private static final String DECIDE_WAITING_SQL =
+            "UPDATE bookings SET status = ? WHERE id = ? AND status = 'WAITING'";
+    private static final int DECISION_BATCH_SIZE = 100;
+    // PostgreSQL exclusion_violation, raised by ex_booking_item_period
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final BookingIntervalIndex bookingIntervalIndex;
+    private final BookingAdmissionLocks bookingAdmissionLocks;
+    private final BookingPaginationProperties bookingPaginationProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Override
     public BookingDto addBooking(BookingDto bookingDto, Long bookerId) {
-        log.info("Called addBooking(bookingDto={}, bookerId={})", bookingDto, bookerId);
+        log.info("Called addBooking(itemId={}, bookerId={})", bookingDto.getItemId(), bookerId);
+        log.debug("addBooking payload: {}", bookingDto);
 
-        User booker = getUserById(bookerId);
+        UserSummary booker = getUserById(bookerId);
         Item item = getItemById(bookingDto.getItemId());
         if (!item.isAvailable()) {
             log.warn("Item {} is not available for booking. Throwing exception.", item.getId());
@@ -41,40 +76,32 @@ public class BookingServiceImpl implements BookingService {
             throw new ForbiddenException("Владелец не может бронировать свою вещь");
         }
         validateBookingDates(bookingDto);
-        validateBookingOverlap(bookingDto, item);
         if (bookingDto.getStatus() == null) {
             bookingDto.setStatus(BookingStatus.WAITING);
         }
 
-        Booking booking = BookingMapper.toEntity(bookingDto, item, booker);
-        bookingRepository.save(booking);
+        Booking booking = BookingMapper.toEntity(bookingDto, item, entityManager.getReference(User.class, booker.id()));
+        bookingAdmissionLocks.withItemLock(item.getId(), () -> admitBooking(booking, bookingDto));
 
         log.debug("Booking saved: {}", booking);
-        return BookingMapper.toDto(booking);
+        return BookingMapper.toDto(booking, booker);
     }
 
     @Override
+    @Transactional
     public BookingDto approveBooking(Long bookingId, Boolean approved, Long ownerId) {
         log.info("Called approveBooking(bookingId={}, approved={}, ownerId={})",
                 bookingId, approved, ownerId);
 
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> {
-                    log.warn("Booking with id={} not found", bookingId);
-                    return new NotFoundException("Бронирование не найдено");
-                });
-        if (!booking.getItem().getOwner().getId().equals(ownerId)) {
-            log.warn("User {} is not owner of item {}. Throwing ForbiddenException.",
-                    ownerId, booking.getItem().getId());
-            throw new ForbiddenException("Подтверждать бронирование может только владелец вещи");
-        }
-        if (!booking.getStatus().equals(BookingStatus.WAITING)) {
-            log.warn("Booking {} is not in WAITING status. Current status={}. Cannot approve/reject again.",
-                    bookingId, booking.getStatus());
-            throw new IllegalArgumentException("Бронирование уже обработано");
+        BookingStatus decision = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        // ownership and WAITING status are checked by the update itself, so two concurrent
+        // decisions on the same booking cannot both succeed
+        if (bookingRepository.decideWaiting(bookingId, ownerId, decision) == 0) {
+            throw approvalRejected(bookingId, ownerId);
         }
-        booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
-        bookingRepository.save(booking);
+        Booking booking = bookingRepository.findWithItemAndBookerById(bookingId)
+                .orElseThrow(() -> new NotFoundException(NOT_FOUND));
+        bookingIntervalIndex.update(booking);
 
         log.debug("Booking {} approved={} by owner {}. New status={}",
                 bookingId, approved, ownerId, booking.getStatus());
@@ -82,10 +109,78 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional
+    public List<BookingDecisionResultDto> decideBookings(List<BookingDecisionDto> decisions, Long ownerId) {
+        log.info("Called decideBookings(count={}, ownerId={})", decisions.size(), ownerId);
+        for (BookingDecisionDto decision : decisions) {
+            if (decision == null || decision.getBookingId() == null || decision.getApproved() == null) {
+                log.warn("Malformed decision {} from owner {}. Throwing ValidationException.", decision, ownerId);
+                throw new ValidationException("Каждое решение должно содержать bookingId и approved");
+            }
+        }
+
+        List<Long> ids = decisions.stream().map(BookingDecisionDto::getBookingId).distinct().toList();
+        Map<Long, BookingApprovalView> views = ids.isEmpty() ? Map.of()
+                : bookingRepository.findApprovalViewsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(BookingApprovalView::getId, Function.identity()));
+
+        // decisions are checked against the snapshot in memory; the batch below re-checks WAITING
+        // so a booking decided concurrently through approveBooking is not overwritten
+        List<BookingDecisionResultDto> results = new ArrayList<>(decisions.size());
+        Map<Long, BookingDecisionResultDto> pending = new HashMap<>();
+        for (BookingDecisionDto decision : decisions) {
+            Long bookingId = decision.getBookingId();
+            BookingApprovalView view = views.get(bookingId);
+            BookingDecisionResultDto result;
+            if (view == null) {
+                result = new BookingDecisionResultDto(bookingId, null, NOT_FOUND);
+            } else if (!view.getOwnerId().equals(ownerId)) {
+                result = new BookingDecisionResultDto(bookingId, null, NOT_OWNER);
+            } else if (pending.containsKey(bookingId)) {
+                result = new BookingDecisionResultDto(bookingId, pending.get(bookingId).getStatus(), ALREADY_PROCESSED);
+            } else if (view.getStatus() != BookingStatus.WAITING) {
+                result = new BookingDecisionResultDto(bookingId, view.getStatus(), ALREADY_PROCESSED);
+            } else {
+                BookingStatus status = decision.getApproved() ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+                result = new BookingDecisionResultDto(bookingId, status, null);
+                pending.put(bookingId, result);
+            }
+            results.add(result);
+        }
+        if (pending.isEmpty()) {
+            return results;
+        }
+
+        List<BookingDecisionResultDto> batch = new ArrayList<>(pending.values());
+        int[][] counts = jdbcTemplate.batchUpdate(DECIDE_WAITING_SQL, batch, DECISION_BATCH_SIZE, (ps, result) -> {
+            ps.setString(1, result.getStatus().name());
+            ps.setLong(2, result.getBookingId());
+        });
+        int applied = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            BookingDecisionResultDto result = batch.get(i);
+            if (counts[i / DECISION_BATCH_SIZE][i % DECISION_BATCH_SIZE] == 0) {
+                log.warn("Booking {} was decided concurrently. Skipping.", result.getBookingId());
+                result.setStatus(null);
+                result.setError(ALREADY_PROCESSED);
+                continue;
+            }
+            applied++;
+            if (result.getStatus() == BookingStatus.REJECTED) {
+                bookingIntervalIndex.release(views.get(result.getBookingId()).getItemId(), result.getBookingId());
+            }
+        }
+
+        log.debug("Owner {} applied {} of {} booking decisions", ownerId, applied, decisions.size());
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public BookingDto getBooking(Long bookingId, Long userId) {
         log.info("Called getBooking(bookingId={}, userId={})", bookingId, userId);
 
-        Booking booking = bookingRepository.findById(bookingId)
+        Booking booking = bookingRepository.findWithItemAndBookerById(bookingId)
                 .orElseThrow(() -> {
                     log.warn("Booking with id={} not found", bookingId);
                     return new NotFoundException("Бронирование не найдено");
@@ -100,65 +195,114 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingDto> getBookingsByBooker(Long bookerId, BookingState state) {
-        log.info("Called getBookingsByBooker(bookerId={}, state={})", bookerId, state);
+    @Transactional(readOnly = true)
+    public BookingPage getBookingsByBooker(Long bookerId, BookingState state, String cursor, Integer size) {
+        log.info("Called getBookingsByBooker(bookerId={}, state={}, cursor={}, size={})", bookerId, state, cursor, size);
         LocalDateTime now = LocalDateTime.now();
+        ScrollPosition position = BookingCursor.decode(cursor);
+        Limit limit = pageLimit(size);
 
-        List<Booking> bookings = switch (state == null ? BookingState.ALL : state) {
+        Window<Booking> bookings = switch (state == null ? BookingState.ALL : state) {
             case CURRENT ->
-                    bookingRepository.findByBookerIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeDesc(bookerId, now, now);
+                    bookingRepository.findByBookerIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeDescIdDesc(
+                            bookerId, now, now, position, limit);
             case PAST ->
-                    bookingRepository.findByBookerIdAndEndTimeBeforeOrderByStartTimeDesc(bookerId, now);
+                    bookingRepository.findByBookerIdAndEndTimeBeforeOrderByStartTimeDescIdDesc(
+                            bookerId, now, position, limit);
             case FUTURE ->
-                    bookingRepository.findByBookerIdAndStartTimeAfterOrderByStartTimeDesc(bookerId, now);
+                    bookingRepository.findByBookerIdAndStartTimeAfterOrderByStartTimeDescIdDesc(
+                            bookerId, now, position, limit);
             case WAITING ->
-                    bookingRepository.findByBookerIdAndStatusOrderByStartTimeDesc(bookerId, BookingStatus.WAITING);
+                    bookingRepository.findByBookerIdAndStatusOrderByStartTimeDescIdDesc(
+                            bookerId, BookingStatus.WAITING, position, limit);
             case REJECTED ->
-                    bookingRepository.findByBookerIdAndStatusOrderByStartTimeDesc(bookerId, BookingStatus.REJECTED);
+                    bookingRepository.findByBookerIdAndStatusOrderByStartTimeDescIdDesc(
+                            bookerId, BookingStatus.REJECTED, position, limit);
             default ->
-                    bookingRepository.findByBookerIdOrderByStartTimeDesc(bookerId);
+                    bookingRepository.findByBookerIdOrderByStartTimeDescIdDesc(bookerId, position, limit);
         };
 
         log.debug("Found {} bookings for bookerId={} and state={}", bookings.size(), bookerId, state);
-        return bookings.stream()
-                .map(BookingMapper::toDto)
-                .collect(Collectors.toList());
+        return toPage(bookings);
     }
 
     @Override
-    public List<BookingDto> getBookingsByOwner(Long ownerId, BookingState state) {
-        log.info("Called getBookingsByOwner(ownerId={}, state={})", ownerId, state);
+    @Transactional(readOnly = true)
+    public BookingPage getBookingsByOwner(Long ownerId, BookingState state, String cursor, Integer size) {
+        log.info("Called getBookingsByOwner(ownerId={}, state={}, cursor={}, size={})", ownerId, state, cursor, size);
 
-        List<Item> items = itemRepository.findByOwnerId(ownerId);
-        if (items.isEmpty()) {
+        if (!itemRepository.existsByOwnerId(ownerId)) {
             log.warn("Owner {} has no items, so no bookings can be found", ownerId);
             throw new NotFoundException("Пользователь не имеет вещей, бронирования не найдены");
         }
         LocalDateTime now = LocalDateTime.now();
-        List<Booking> bookings = switch (state == null ? BookingState.ALL : state) {
+        ScrollPosition position = BookingCursor.decode(cursor);
+        Limit limit = pageLimit(size);
+
+        Window<Booking> bookings = switch (state == null ? BookingState.ALL : state) {
             case CURRENT ->
-                    bookingRepository.findByItemOwnerIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeDesc(ownerId, now, now);
+                    bookingRepository.findByItemOwnerIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeDescIdDesc(
+                            ownerId, now, now, position, limit);
             case PAST ->
-                    bookingRepository.findByItemOwnerIdAndEndTimeBeforeOrderByStartTimeDesc(ownerId, now);
+                    bookingRepository.findByItemOwnerIdAndEndTimeBeforeOrderByStartTimeDescIdDesc(
+                            ownerId, now, position, limit);
             case FUTURE ->
-                    bookingRepository.findByItemOwnerIdAndStartTimeAfterOrderByStartTimeDesc(ownerId, now);
+                    bookingRepository.findByItemOwnerIdAndStartTimeAfterOrderByStartTimeDescIdDesc(
+                            ownerId, now, position, limit);
             case WAITING ->
-                    bookingRepository.findByItemOwnerIdAndStatusOrderByStartTimeDesc(ownerId, BookingStatus.WAITING);
+                    bookingRepository.findByItemOwnerIdAndStatusOrderByStartTimeDescIdDesc(
+                            ownerId, BookingStatus.WAITING, position, limit);
             case REJECTED ->
-                    bookingRepository.findByItemOwnerIdAndStatusOrderByStartTimeDesc(ownerId, BookingStatus.REJECTED);
+                    bookingRepository.findByItemOwnerIdAndStatusOrderByStartTimeDescIdDesc(
+                            ownerId, BookingStatus.REJECTED, position, limit);
             default ->
-                    bookingRepository.findByItemOwnerIdOrderByStartTimeDesc(ownerId);
+                    bookingRepository.findByItemOwnerIdOrderByStartTimeDescIdDesc(ownerId, position, limit);
         };
 
         log.debug("Found {} bookings for ownerId={} and state={}", bookings.size(), ownerId, state);
-        return bookings.stream()
+        return toPage(bookings);
+    }
+
+    private RuntimeException approvalRejected(Long bookingId, Long ownerId) {
+        BookingApprovalView view = bookingRepository.findApprovalViewById(bookingId).orElse(null);
+        if (view == null) {
+            log.warn("Booking with id={} not found", bookingId);
+            return new NotFoundException(NOT_FOUND);
+        }
+        if (!view.getOwnerId().equals(ownerId)) {
+            log.warn("User {} is not owner of booking {}. Throwing ForbiddenException.", ownerId, bookingId);
+            return new ForbiddenException(NOT_OWNER);
+        }
+        log.warn("Booking {} is not in WAITING status. Current status={}. Cannot approve/reject again.",
+                bookingId, view.getStatus());
+        return new BookingAlreadyProcessedException(ALREADY_PROCESSED);
+    }
+
+    private Limit pageLimit(Integer size) {
+        int maxPageSize = bookingPaginationProperties.maxPageSize();
+        if (size == null) {
+            return Limit.of(maxPageSize);
+        }
+        if (size < 1) {
+            log.warn("Page size {} is not positive. Throwing exception.", size);
+            throw new IllegalArgumentException("Размер страницы должен быть положительным");
+        }
+        return Limit.of(Math.min(size, maxPageSize));
+    }
+
+    private static BookingPage toPage(Window<Booking> bookings) {
+        List<BookingDto> content = bookings.stream()
                 .map(BookingMapper::toDto)
                 .collect(Collectors.toList());
+        String nextCursor = bookings.hasNext() && !bookings.isEmpty()
+                ? BookingCursor.encode(bookings.getContent().get(bookings.size() - 1))
+                : null;
+        return new BookingPage(content, nextCursor);
     }
 
-    private User getUserById(Long id) {
+    private UserSummary getUserById(Long id) {
         log.debug("Fetching user by id={}", id);
-        return userRepository.findById(id)
+        return userCache.findById(id)
                 .orElseThrow(() -> {
                     log.warn("User with id={} not found", id);
                     return new NotFoundException("Пользователь не найден");
@@ -174,6 +318,29 @@ public class BookingServiceImpl implements BookingService {
                 });
     }
 
+    private Booking admitBooking(Booking booking, BookingDto bookingDto) {
+        Long itemId = booking.getItem().getId();
+        validateBookingOverlap(bookingDto, booking.getItem());
+        try {
+            bookingRepository.save(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (!isOverlapViolation(e)) {
+                throw e;
+            }
+            log.warn("Booking start={}, end={} rejected by overlap constraint for item {}",
+                    bookingDto.getStart(), bookingDto.getEnd(), itemId);
+            bookingIntervalIndex.evict(itemId);
+            throw new IllegalArgumentException("Вещь занята в указанное время");
+        }
+        bookingIntervalIndex.update(booking);
+        return booking;
+    }
+
+    private static boolean isOverlapViolation(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sqlException
+                && EXCLUSION_VIOLATION.equals(sqlException.getSQLState());
+    }
+
     private void validateBookingDates(BookingDto bookingDto) {
         log.debug("Validating booking dates: start={}, end={}", bookingDto.getStart(), bookingDto.getEnd());
         LocalDateTime start = bookingDto.getStart();
@@ -189,15 +356,11 @@ public class BookingServiceImpl implements BookingService {
     }
 
     private void validateBookingOverlap(BookingDto bookingDto, Item item) {
-        log.debug("Checking overlap for itemId={} with bookingDto={}", item.getId(), bookingDto);
-        List<Booking> overlapping = bookingRepository
-                .findByItemIdAndStatusIn(item.getId(), List.of(BookingStatus.APPROVED, BookingStatus.WAITING))
-                .stream()
-                .filter(b -> bookingDto.getStart().isBefore(b.getEndTime())
-                             && bookingDto.getEnd().isAfter(b.getStartTime()))
-                .toList();
-        if (!overlapping.isEmpty()) {
-            log.warn("Found overlap. bookingDto={} overlaps with bookings: {}", bookingDto, overlapping);
+        log.debug("Checking overlap for itemId={}, start={}, end={}", item.getId(), bookingDto.getStart(),
+                bookingDto.getEnd());
+        if (bookingIntervalIndex.overlaps(item.getId(), bookingDto.getStart(), bookingDto.getEnd())) {
+            log.warn("Found overlap. start={}, end={} overlaps with an active booking of item {}",
+                    bookingDto.getStart(), bookingDto.getEnd(), item.getId());
             throw new IllegalArgumentException("Вещь занята в указанное время");
         }
     }
@@ -2,10 +2,12 @@ package ru.practicum.shareit.booking.dto;
 
 import lombok.extern.slf4j.Slf4j;
 import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingShortView;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserSummary;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
 
@@ -35,7 +37,6 @@ public class BookingMapper {
         dto.setStart(booking.getStartTime());
         dto.setEnd(booking.getEndTime());
         User booker = booking.getBooker();
-        Item item = booking.getItem();
         dto.setStatus(booking.getStatus());
 
         if (booker != null) {
@@ -43,11 +44,48 @@ public class BookingMapper {
             UserDto bookerDto = UserMapper.toDto(booker);
             dto.setBooker(bookerDto);
         }
+        setItem(dto, booking.getItem());
+        return dto;
+    }
+
+    /**
+     * For a booking whose booker is an uninitialized reference: the booker is taken from the summary.
+     */
+    public static BookingDto toDto(Booking booking, UserSummary booker) {
+        if (booking == null) {
+            return null;
+        }
+        BookingDto dto = new BookingDto();
+        dto.setId(booking.getId());
+        dto.setStart(booking.getStartTime());
+        dto.setEnd(booking.getEndTime());
+        dto.setStatus(booking.getStatus());
+        dto.setBookerId(booker.id());
+        dto.setBooker(new UserDto(booker.id(), booker.name(), booker.email()));
+        setItem(dto, booking.getItem());
+        return dto;
+    }
+
+    private static void setItem(BookingDto dto, Item item) {
         if (item != null) {
             dto.setItemId(item.getId());
             ItemDto itemDto = ItemMapper.toDto(item);
             dto.setItem(itemDto);
         }
-        return dto;
+    }
+
+    public static BookingShortDto toShortDto(Booking booking) {
+        if (booking == null) {
+            return null;
+        }
+        return new BookingShortDto(booking.getId(), booking.getStartTime(), booking.getEndTime(),
+                booking.getBooker().getId());
+    }
+
+    public static BookingShortDto toShortDto(BookingShortView view) {
+        if (view == null) {
+            return null;
+        }
+        return new BookingShortDto(view.getId(), view.getStartTime(), view.getEndTime(), view.getBookerId());
     }
 }
\ No newline at end of file
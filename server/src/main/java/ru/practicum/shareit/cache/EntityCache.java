@@ -0,0 +1,57 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Size- and TTL-bounded read-through cache of immutable snapshots keyed by entity id.
+ * Lookups that find nothing are not cached. An eviction is applied at once and repeated after
+ * the surrounding transaction commits, so a concurrent load that read the old row before the
+ * commit cannot survive it; the TTL bounds anything that still slips through.
+ */
+public class EntityCache<V> {
+
+    private final Cache<Long, V> cache;
+
+    public EntityCache(String name, EntityCacheProperties properties, MeterRegistry meterRegistry) {
+        if (!properties.enabled()) {
+            cache = null;
+            return;
+        }
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public Optional<V> get(Long id, Function<Long, V> loader) {
+        if (cache == null || id == null) {
+            return Optional.ofNullable(loader.apply(id));
+        }
+        return Optional.ofNullable(cache.get(id, loader));
+    }
+
+    public void evict(Long id) {
+        if (cache == null || id == null) {
+            return;
+        }
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read-through cache settings for user and item lookups.
+ *
+ * @param enabled     false sends every lookup to the database
+ * @param maximumSize entries kept per cache before the least valuable ones are dropped
+ * @param ttl         upper bound on how long an entry may outlive a change it missed
+ */
+@ConfigurationProperties(prefix = "shareit.cache")
+public record EntityCacheProperties(@DefaultValue("true") boolean enabled,
+                                    @DefaultValue("10000") long maximumSize,
+                                    @DefaultValue("10m") Duration ttl) {
+}
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exception;
+
+public class BookingAlreadyProcessedException extends IllegalArgumentException {
+    public BookingAlreadyProcessedException(String message) {
+        super(message);
+    }
+}
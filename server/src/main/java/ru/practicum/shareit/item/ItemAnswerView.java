@@ -0,0 +1,11 @@
+package ru.practicum.shareit.item;
+
+public interface ItemAnswerView {
+    Long getRequestId();
+
+    Long getId();
+
+    String getName();
+
+    Long getOwnerId();
+}
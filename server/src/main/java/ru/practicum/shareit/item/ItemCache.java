@@ -0,0 +1,33 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.cache.EntityCache;
+import ru.practicum.shareit.cache.EntityCacheProperties;
+
+import java.util.Optional;
+
+/**
+ * Cached item summaries for read paths that only need the item's own columns and its owner id.
+ */
+@Component
+public class ItemCache {
+
+    private final ItemRepository itemRepository;
+    private final EntityCache<ItemSummary> items;
+
+    public ItemCache(ItemRepository itemRepository, EntityCacheProperties properties, MeterRegistry meterRegistry) {
+        this.itemRepository = itemRepository;
+        this.items = new EntityCache<>("items", properties, meterRegistry);
+    }
+
+    public Optional<ItemSummary> findById(Long id) {
+        return items.get(id, key -> itemRepository.findById(key).map(ItemSummary::of).orElse(null));
+    }
+
+    @EventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        items.evict(event.itemId());
+    }
+}
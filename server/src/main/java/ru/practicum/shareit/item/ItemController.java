@@ -20,6 +20,12 @@ public class ItemController {
         return itemService.addItem(itemDto, ownerId);
     }
 
+    @PostMapping("/batch")
+    public List<Long> addItems(@RequestBody List<ItemDto> itemDtos,
+                               @RequestHeader("X-Sharer-User-Id") Long ownerId) {
+        return itemService.addItems(itemDtos, ownerId);
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDto updateItem(@PathVariable Long itemId,
                               @RequestBody ItemDto itemDto,
@@ -39,8 +45,10 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public List<ItemDto> searchItems(@RequestParam String text) {
-        return itemService.searchItems(text);
+    public List<ItemDto> searchItems(@RequestParam String text,
+                                     @RequestParam(name = "from", defaultValue = "0") int from,
+                                     @RequestParam(name = "size", required = false) Integer size) {
+        return itemService.searchItems(text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
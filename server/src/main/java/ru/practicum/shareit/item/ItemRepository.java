@@ -1,10 +1,23 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findByOwnerId(Long ownerId);
 
-    List<Item> findByRequestId(Long requestId);
-}
\ No newline at end of file
+    boolean existsByOwnerId(Long ownerId);
+
+    @Query("select new ru.practicum.shareit.item.dto.ItemShortDto(i.id, i.name, i.owner.id) "
+            + "from Item i where i.request.id = :requestId")
+    List<ItemShortDto> findShortByRequestId(@Param("requestId") Long requestId);
+
+    @Query("select i.request.id as requestId, i.id as id, i.name as name, i.owner.id as ownerId "
+            + "from Item i where i.request.id in :requestIds")
+    List<ItemAnswerView> findByRequestIdIn(@Param("requestIds") Collection<Long> requestIds);
+}
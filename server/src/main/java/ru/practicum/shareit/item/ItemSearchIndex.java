@@ -0,0 +1,326 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over available items, used when {@code shareit.item-search.mode=index}.
+ * Whole-word tokens and character trigrams map to sorted {@code long[]} posting lists of item ids;
+ * a query intersects the trigram postings and verifies candidates against the stored text,
+ * so the results keep the case-insensitive substring semantics of the database search.
+ */
+@Slf4j
+@Component
+public class ItemSearchIndex {
+
+    static final int GRAM = 3;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int SCORE_SHIFT = 56;
+    private static final long ID_MASK = (1L << SCORE_SHIFT) - 1;
+    private static final String TOKEN_SEPARATOR = "[^\\p{L}\\p{N}]+";
+
+    private final ItemRepository itemRepository;
+    private final ItemSearchProperties itemSearchProperties;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Postings> grams = new HashMap<>();
+    private final Map<String, Postings> tokens = new HashMap<>();
+
+    public ItemSearchIndex(ItemRepository itemRepository, ItemSearchProperties itemSearchProperties) {
+        this.itemRepository = itemRepository;
+        this.itemSearchProperties = itemSearchProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (isEnabled()) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            grams.clear();
+            tokens.clear();
+            Page<Item> page = itemRepository.findAll(PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("id")));
+            page.forEach(this::put);
+            while (page.hasNext()) {
+                page = itemRepository.findAll(page.nextPageable());
+                page.forEach(this::put);
+            }
+            log.info("Item search index rebuilt: {} items, {} grams, {} tokens, ~{} bytes/item in {} ms",
+                    documents.size(), grams.size(), tokens.size(), estimateBytesPerItem(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Item item) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindex(item);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reindex(item);
+            }
+        });
+    }
+
+    public void indexAll(List<Item> items) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindexAll(items);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reindexAll(items);
+            }
+        });
+    }
+
+    public List<Long> search(String text, int from, int size) {
+        String query = text.toLowerCase();
+        lock.readLock().lock();
+        try {
+            long[] ranked = rank(query, candidates(query));
+            int to = (int) Math.min(ranked.length, (long) from + size);
+            long[] page = from < to ? Arrays.copyOfRange(ranked, from, to) : new long[0];
+            return Arrays.stream(page).map(key -> key & ID_MASK).boxed().toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long estimateBytesPerItem() {
+        if (documents.isEmpty()) {
+            return 0;
+        }
+        long bytes = 0;
+        for (Document document : documents.values()) {
+            bytes += 64 + 2L * (document.name.length() + document.description.length());
+        }
+        for (Map<String, Postings> postings : List.of(grams, tokens)) {
+            for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                bytes += 96 + 2L * entry.getKey().length() + 8L * entry.getValue().ids.length;
+            }
+        }
+        return bytes / documents.size();
+    }
+
+    private boolean isEnabled() {
+        return itemSearchProperties.mode() == ItemSearchMode.INDEX;
+    }
+
+    private void reindex(Item item) {
+        lock.writeLock().lock();
+        try {
+            remove(item.getId());
+            put(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void reindexAll(List<Item> items) {
+        lock.writeLock().lock();
+        try {
+            for (Item item : items) {
+                remove(item.getId());
+                put(item);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Item item) {
+        if (!item.isAvailable()) {
+            return;
+        }
+        Document document = new Document(item.getName().toLowerCase(), item.getDescription().toLowerCase());
+        documents.put(item.getId(), document);
+        document.grams().forEach(gram -> grams.computeIfAbsent(gram, g -> new Postings()).add(item.getId()));
+        document.tokens().forEach(token -> tokens.computeIfAbsent(token, t -> new Postings()).add(item.getId()));
+    }
+
+    private void remove(Long itemId) {
+        Document document = documents.remove(itemId);
+        if (document == null) {
+            return;
+        }
+        document.grams().forEach(gram -> removePosting(grams, gram, itemId));
+        document.tokens().forEach(token -> removePosting(tokens, token, itemId));
+    }
+
+    private static void removePosting(Map<String, Postings> postings, String key, long itemId) {
+        Postings list = postings.get(key);
+        if (list != null && list.remove(itemId) && list.size == 0) {
+            postings.remove(key);
+        }
+    }
+
+    private long[] candidates(String query) {
+        if (query.length() < GRAM) {
+            return documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        return intersect(grams, grams(query));
+    }
+
+    /**
+     * Verifies candidates and orders them by score: all query tokens present as whole words (4),
+     * match in name (2), match in description (1); ties by id. Each result is packed into one long
+     * (inverted score in the top byte, id below) so the ranking sorts a primitive array.
+     */
+    private long[] rank(String query, long[] candidates) {
+        long[] wholeWords = intersect(tokens, tokens(query));
+        long[] ranked = new long[candidates.length];
+        int count = 0;
+        for (long id : candidates) {
+            Document document = documents.get(id);
+            boolean inName = document.name.contains(query);
+            boolean inDescription = document.description.contains(query);
+            if (!inName && !inDescription) {
+                continue;
+            }
+            int score = (Arrays.binarySearch(wholeWords, id) >= 0 ? 4 : 0)
+                        + (inName ? 2 : 0)
+                        + (inDescription ? 1 : 0);
+            ranked[count++] = ((long) (7 - score) << SCORE_SHIFT) | id;
+        }
+        long[] result = Arrays.copyOf(ranked, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static long[] intersect(Map<String, Postings> index, Set<String> keys) {
+        if (keys.isEmpty()) {
+            return new long[0];
+        }
+        Postings[] lists = new Postings[keys.size()];
+        int i = 0;
+        for (String key : keys) {
+            Postings postings = index.get(key);
+            if (postings == null) {
+                return new long[0];
+            }
+            lists[i++] = postings;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        long[] result = Arrays.copyOf(lists[0].ids, lists[0].size);
+        for (int l = 1; l < lists.length && result.length > 0; l++) {
+            result = intersect(result, lists[l]);
+        }
+        return result;
+    }
+
+    private static long[] intersect(long[] left, Postings right) {
+        long[] result = new long[left.length];
+        int count = 0;
+        int j = 0;
+        for (long id : left) {
+            while (j < right.size && right.ids[j] < id) {
+                j++;
+            }
+            if (j == right.size) {
+                break;
+            }
+            if (right.ids[j] == id) {
+                result[count++] = id;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    static Set<String> grams(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            result.add(text.substring(i, i + GRAM));
+        }
+        return result;
+    }
+
+    static Set<String> tokens(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String token : text.split(TOKEN_SEPARATOR)) {
+            if (!token.isEmpty()) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    private record Document(String name, String description) {
+        Set<String> grams() {
+            Set<String> result = ItemSearchIndex.grams(name);
+            result.addAll(ItemSearchIndex.grams(description));
+            return result;
+        }
+
+        Set<String> tokens() {
+            Set<String> result = ItemSearchIndex.tokens(name);
+            result.addAll(ItemSearchIndex.tokens(description));
+            return result;
+        }
+    }
+
+    /**
+     * Sorted, growable posting list of item ids. Ids usually arrive in increasing order,
+     * so {@link #add} is an append in the common case.
+     */
+    static class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            int position = size == 0 || ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+}
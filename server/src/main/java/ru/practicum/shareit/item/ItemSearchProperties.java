@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Item search settings.
+ *
+ * @param mode SUBSTRING keeps the case-insensitive "contains" semantics and works on any database;
+ *             FULL_TEXT uses PostgreSQL full-text search and requires the indexes from the postgresql/V4 migration;
+ *             INDEX keeps the substring semantics but answers from the in-memory {@link ItemSearchIndex}
+ */
+@ConfigurationProperties(prefix = "shareit.item-search")
+public record ItemSearchProperties(@DefaultValue("SUBSTRING") ItemSearchMode mode) {
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ItemSearchRepository extends Repository<Item, Long> {
+
+    @Query("select i from Item i where i.available = true "
+           + "and (lower(i.name) like concat('%', :text, '%') escape '\\' "
+           + "or lower(i.description) like concat('%', :text, '%') escape '\\') "
+           + "order by i.id")
+    List<Item> searchBySubstring(@Param("text") String lowerEscapedText, Pageable pageable);
+
+    @Query(value = """
+            SELECT i.* FROM items i
+            WHERE i.available
+              AND to_tsvector('simple', i.name || ' ' || i.description) @@ plainto_tsquery('simple', :text)
+            ORDER BY ts_rank(to_tsvector('simple', i.name || ' ' || i.description),
+                             plainto_tsquery('simple', :text)) DESC, i.id
+            """, nativeQuery = true)
+    List<Item> searchByFullText(@Param("text") String text, Pageable pageable);
+}
@@ -8,13 +8,15 @@ import java.util.List;
 public interface ItemService {
     ItemDto addItem(ItemDto itemDto, Long ownerId);
 
+    List<Long> addItems(List<ItemDto> itemDtos, Long ownerId);
+
     ItemDto updateItem(Long itemId, ItemDto itemDto, Long ownerId);
 
     ItemDto getItemById(Long itemId, Long requesterId);
 
     List<ItemDto> getItemsByOwner(Long ownerId);
 
-    List<ItemDto> searchItems(String text);
+    List<ItemDto> searchItems(String text, int from, Integer size);
 
     CommentDto addComment(Long itemId, Long userId, CommentDto commentDto);
 }
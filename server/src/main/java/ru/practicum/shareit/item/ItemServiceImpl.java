@@ -1,11 +1,19 @@
 package ru.practicum.shareit.item;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingShortView;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.exception.ForbiddenException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.comment.CommentRepository;
@@ -13,31 +21,47 @@ import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.comment.dto.CommentMapper;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserCache;
+import ru.practicum.shareit.user.UserSummary;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Timed(value = "shareit.service", histogram = true)
 public class ItemServiceImpl implements ItemService {
 
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final ItemCache itemCache;
+    private final ApplicationEventPublisher eventPublisher;
     private final ItemRequestRepository itemRequestRepository;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
+    private final ItemSearchRepository itemSearchRepository;
+    private final ItemSearchProperties itemSearchProperties;
+    private final ItemSearchIndex itemSearchIndex;
+    private final EntityManager entityManager;
 
     @Override
+    @Transactional
     public ItemDto addItem(ItemDto itemDto, Long ownerId) {
-        log.info("Called addItem(itemDto={}, ownerId={})", itemDto, ownerId);
+        log.info("Called addItem(ownerId={})", ownerId);
+        log.debug("addItem payload: {}", itemDto);
 
-        User owner = getUserById(ownerId);
+        User owner = getUserReference(ownerId);
         Item item = new Item();
         item.setName(itemDto.getName());
         item.setDescription(itemDto.getDescription());
@@ -54,13 +78,47 @@ public class ItemServiceImpl implements ItemService {
         }
 
         itemRepository.save(item);
+        itemSearchIndex.index(item);
         log.debug("Item saved: {}", item);
         return ItemMapper.toDto(item, List.of());
     }
 
     @Override
+    @Transactional
+    public List<Long> addItems(List<ItemDto> itemDtos, Long ownerId) {
+        log.info("Called addItems(count={}, ownerId={})", itemDtos.size(), ownerId);
+
+        User owner = getUserReference(ownerId);
+        Set<Long> requestIds = itemDtos.stream()
+                .map(ItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ItemRequest> requests = requestIds.isEmpty() ? Map.of()
+                : itemRequestRepository.findAllById(requestIds).stream()
+                        .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+        if (requests.size() < requestIds.size()) {
+            log.warn("Some of ItemRequests {} not found", requestIds);
+            throw new NotFoundException("Запрос не найден");
+        }
+
+        List<Item> items = itemDtos.stream()
+                .map(dto -> new Item(null, dto.getName(), dto.getDescription(), dto.getAvailable(), owner,
+                        dto.getRequestId() == null ? null : requests.get(dto.getRequestId())))
+                .toList();
+        // ids come from the pooled sequence, so the inserts are sent in JDBC batches at commit;
+        // new ids were never cached, so there is nothing to evict
+        itemRepository.saveAll(items);
+        itemSearchIndex.indexAll(items);
+
+        log.debug("Saved {} items for owner {}", items.size(), ownerId);
+        return items.stream().map(Item::getId).toList();
+    }
+
+    @Override
+    @Transactional
     public ItemDto updateItem(Long itemId, ItemDto itemDto, Long ownerId) {
-        log.info("Called updateItem(itemId={}, itemDto={}, ownerId={})", itemId, itemDto, ownerId);
+        log.info("Called updateItem(itemId={}, ownerId={})", itemId, ownerId);
+        log.debug("updateItem payload: {}", itemDto);
 
         Item item = getItemById(itemId);
         if (!item.getOwner().getId().equals(ownerId)) {
@@ -76,24 +134,28 @@ public class ItemServiceImpl implements ItemService {
         if (itemDto.getAvailable() != null) {
             item.setAvailable(itemDto.getAvailable());
         }
-        itemRepository.save(item);
+        itemSearchIndex.index(item);
+        eventPublisher.publishEvent(new ItemChangedEvent(itemId));
 
-        List<CommentDto> comments = commentRepository.findByItemIdOrderByCreatedAsc(item.getId())
-                .stream().map(CommentMapper::toDto).collect(Collectors.toList());
+        List<CommentDto> comments = commentRepository.findDtoByItemId(item.getId());
 
         log.debug("Item {} updated. Return with comments={}", itemId, comments.size());
         return ItemMapper.toDto(item, comments);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ItemDto getItemById(Long itemId, Long requesterId) {
         log.info("Called getItemById(itemId={}, requesterId={})", itemId, requesterId);
 
-        Item item = getItemById(itemId);
-        List<CommentDto> comments = commentRepository.findByItemIdOrderByCreatedAsc(item.getId())
-                .stream().map(CommentMapper::toDto).collect(Collectors.toList());
+        ItemSummary item = itemCache.findById(itemId)
+                .orElseThrow(() -> {
+                    log.warn("Item with id={} not found", itemId);
+                    return new NotFoundException("Вещь не найдена");
+                });
+        List<CommentDto> comments = commentRepository.findDtoByItemId(itemId);
 
-        if (item.getOwner().getId().equals(requesterId)) {
+        if (item.ownerId().equals(requesterId)) {
             Booking lastBooking = bookingRepository
                     .findFirstByItemIdAndStartTimeBeforeOrderByStartTimeDesc(itemId, LocalDateTime.now())
                     .orElse(null);
@@ -104,7 +166,8 @@ public class ItemServiceImpl implements ItemService {
             log.debug("Returning itemOwnerDto for itemId={}, lastBooking={}, nextBooking={}",
                     itemId, lastBooking, nextBooking);
 
-            return ItemMapper.toOwnerDto(item, lastBooking, nextBooking, comments);
+            return ItemMapper.toOwnerDto(item, BookingMapper.toShortDto(lastBooking),
+                    BookingMapper.toShortDto(nextBooking), comments);
         }
 
         log.debug("Returning itemOwnerDto (no last/next booking) for itemId={}", itemId);
@@ -112,56 +175,73 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemDto> getItemsByOwner(Long ownerId) {
         log.info("Called getItemsByOwner(ownerId={})", ownerId);
 
         List<Item> items = itemRepository.findByOwnerId(ownerId);
         log.debug("Found {} items for owner={}", items.size(), ownerId);
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        List<Long> itemIds = items.stream().map(Item::getId).toList();
+
+        Map<Long, List<CommentDto>> comments = commentRepository.findByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(c -> c.getItem().getId(),
+                        Collectors.mapping(CommentMapper::toDto, Collectors.toList())));
+
+        Map<Long, BookingShortDto> lastBookings = new HashMap<>();
+        Map<Long, BookingShortDto> nextBookings = new HashMap<>();
+        for (BookingShortView view : bookingRepository.findLastAndNextByItemIdIn(itemIds, LocalDateTime.now())) {
+            Map<Long, BookingShortDto> target = "LAST".equals(view.getSlot()) ? lastBookings : nextBookings;
+            target.put(view.getItemId(), BookingMapper.toShortDto(view));
+        }
 
         return items.stream()
-                .map(item -> {
-                    List<CommentDto> comments = commentRepository.findByItemIdOrderByCreatedAsc(item.getId())
-                            .stream().map(CommentMapper::toDto).collect(Collectors.toList());
-                    Booking lastBooking = bookingRepository
-                            .findFirstByItemIdAndStartTimeBeforeOrderByStartTimeDesc(item.getId(), LocalDateTime.now())
-                            .orElse(null);
-                    Booking nextBooking = bookingRepository
-                            .findFirstByItemIdAndStartTimeAfterOrderByStartTimeAsc(item.getId(), LocalDateTime.now())
-                            .orElse(null);
-                    return ItemMapper.toOwnerDto(item, lastBooking, nextBooking, comments);
-                })
+                .map(item -> ItemMapper.toOwnerDto(item,
+                        lastBookings.get(item.getId()),
+                        nextBookings.get(item.getId()),
+                        comments.getOrDefault(item.getId(), List.of())))
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<ItemDto> searchItems(String text) {
-        log.info("Called searchItems(text='{}')", text);
+    @Transactional(readOnly = true)
+    public List<ItemDto> searchItems(String text, int from, Integer size) {
+        log.info("Called searchItems(text='{}', from={}, size={})", text, from, size);
         if (text == null || text.isEmpty()) {
             return List.of();
         }
-        String lowerText = text.toLowerCase();
-        List<Item> items = itemRepository.findAll();
-
-        log.debug("searching among {} items for substring='{}'", items.size(), lowerText);
+        // without size every match is returned, as before the search was paged
+        Pageable pageable = OffsetPageRequest.of(from, size);
+        List<Item> items = switch (itemSearchProperties.mode()) {
+            case FULL_TEXT -> itemSearchRepository.searchByFullText(text, pageable);
+            case INDEX -> findAllInOrder(itemSearchIndex.search(text, from,
+                    pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE));
+            default -> itemSearchRepository.searchBySubstring(escapeLike(text.toLowerCase()), pageable);
+        };
+        log.debug("Found {} items for text='{}' in {} mode", items.size(), text, itemSearchProperties.mode());
+        if (items.isEmpty()) {
+            return List.of();
+        }
 
+        Map<Long, List<CommentDto>> comments = commentRepository
+                .findByItemIdIn(items.stream().map(Item::getId).toList()).stream()
+                .collect(Collectors.groupingBy(c -> c.getItem().getId(),
+                        Collectors.mapping(CommentMapper::toDto, Collectors.toList())));
         return items.stream()
-                .filter(item -> item.isAvailable() &&
-                                (item.getName().toLowerCase().contains(lowerText) ||
-                                 item.getDescription().toLowerCase().contains(lowerText)))
-                .map(item -> {
-                    List<CommentDto> comments = commentRepository.findByItemIdOrderByCreatedAsc(item.getId())
-                            .stream().map(CommentMapper::toDto).collect(Collectors.toList());
-                    return ItemMapper.toDto(item, comments);
-                })
+                .map(item -> ItemMapper.toDto(item, comments.getOrDefault(item.getId(), List.of())))
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public CommentDto addComment(Long itemId, Long userId, CommentDto commentDto) {
-        log.info("Called addComment(itemId={}, userId={}, commentDto={})", itemId, userId, commentDto);
+        log.info("Called addComment(itemId={}, userId={})", itemId, userId);
+        log.debug("addComment payload: {}", commentDto);
 
         Item item = getItemById(itemId);
-        User author = getUserById(userId);
+        UserSummary author = getUserById(userId);
         LocalDateTime now = LocalDateTime.now();
 
         List<Booking> bookings = bookingRepository.findByBookerIdAndItemIdAndStatus(userId, itemId, BookingStatus.APPROVED);
@@ -172,16 +252,20 @@ public class ItemServiceImpl implements ItemService {
             log.warn("User {} has no past approved bookings for item {}. Throwing exception.", userId, itemId);
             throw new IllegalArgumentException("Пользователь не брал вещь в аренду или аренда ещё не завершена");
         }
-        var comment = CommentMapper.toEntity(commentDto, item, author);
+        var comment = CommentMapper.toEntity(commentDto, item, entityManager.getReference(User.class, author.id()));
         commentRepository.save(comment);
 
         log.debug("Comment saved: {}", comment);
-        return CommentMapper.toDto(comment);
+        return CommentMapper.toDto(comment, author);
     }
 
-    private User getUserById(Long id) {
+    private User getUserReference(Long id) {
+        return entityManager.getReference(User.class, getUserById(id).id());
+    }
+
+    private UserSummary getUserById(Long id) {
         log.debug("Fetching user by id={}", id);
-        return userRepository.findById(id)
+        return userCache.findById(id)
                 .orElseThrow(() -> {
                     log.warn("User with id={} not found", id);
                     return new NotFoundException("Пользователь не найден");
@@ -196,4 +280,14 @@ public class ItemServiceImpl implements ItemService {
                     return new NotFoundException("Вещь не найдена");
                 });
     }
+
+    private List<Item> findAllInOrder(List<Long> ids) {
+        Map<Long, Item> byId = itemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.item;
+
+public record ItemSummary(Long id, String name, String description, boolean available, Long ownerId,
+                          Long requestId) {
+
+    public static ItemSummary of(Item item) {
+        return new ItemSummary(item.getId(), item.getName(), item.getDescription(), item.isAvailable(),
+                item.getOwner().getId(), item.getRequest() != null ? item.getRequest().getId() : null);
+    }
+}
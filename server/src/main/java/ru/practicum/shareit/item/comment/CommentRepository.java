@@ -1,9 +1,18 @@
 package ru.practicum.shareit.item.comment;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.item.comment.dto.CommentDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByItemIdOrderByCreatedAsc(Long itemId);
-}
\ No newline at end of file
+    @Query("select new ru.practicum.shareit.item.comment.dto.CommentDto(c.id, c.text, a.name, c.created) "
+            + "from Comment c join c.author a where c.item.id = :itemId order by c.created asc")
+    List<CommentDto> findDtoByItemId(@Param("itemId") Long itemId);
+
+    @Query("select c from Comment c join fetch c.author where c.item.id in :itemIds order by c.created asc")
+    List<Comment> findByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
+}
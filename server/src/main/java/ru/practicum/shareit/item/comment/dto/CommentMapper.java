@@ -3,6 +3,7 @@ package ru.practicum.shareit.item.comment.dto;
 import ru.practicum.shareit.item.comment.Comment;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserSummary;
 import java.time.LocalDateTime;
 
 public class CommentMapper {
@@ -17,6 +18,16 @@ public class CommentMapper {
         );
     }
 
+    public static CommentDto toDto(Comment comment, UserSummary author) {
+        if (comment == null) return null;
+        return new CommentDto(
+                comment.getId(),
+                comment.getText(),
+                author.name(),
+                comment.getCreated()
+        );
+    }
+
     public static Comment toEntity(CommentDto dto, Item item, User author) {
         if (dto == null) return null;
         Comment comment = new Comment();
@@ -2,7 +2,7 @@ package ru.practicum.shareit.item.dto;
 
 import ru.practicum.shareit.item.comment.dto.CommentDto;
 import ru.practicum.shareit.item.Item;
-import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.item.ItemSummary;
 import ru.practicum.shareit.booking.dto.BookingShortDto;
 import java.util.List;
 
@@ -23,13 +23,22 @@ public class ItemMapper {
         return toDto(item, null);
     }
 
-    public static ItemOwnerDto toOwnerDto(Item item, Booking lastBooking, Booking nextBooking, List<CommentDto> comments) {
-        BookingShortDto last = lastBooking != null
-                ? new BookingShortDto(lastBooking.getId(), lastBooking.getStartTime(), lastBooking.getEndTime(), lastBooking.getBooker().getId())
-                : null;
-        BookingShortDto next = nextBooking != null
-                ? new BookingShortDto(nextBooking.getId(), nextBooking.getStartTime(), nextBooking.getEndTime(), nextBooking.getBooker().getId())
-                : null;
+    public static ItemOwnerDto toOwnerDto(ItemSummary item, BookingShortDto last, BookingShortDto next,
+                                          List<CommentDto> comments) {
+        return new ItemOwnerDto(
+                item.id(),
+                item.name(),
+                item.description(),
+                item.available(),
+                item.requestId(),
+                comments,
+                last,
+                next
+        );
+    }
+
+    public static ItemOwnerDto toOwnerDto(Item item, BookingShortDto last, BookingShortDto next,
+                                          List<CommentDto> comments) {
         return new ItemOwnerDto(
                 item.getId(),
                 item.getName(),
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one of every {@code rate} INFO events per logger under {@code loggerPrefix}; other levels
+ * and other loggers always pass. A rate of 1 disables sampling.
+ */
+public class InfoSamplingFilter extends Filter<ILoggingEvent> {
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private int rate = 1;
+    private String loggerPrefix = "ru.practicum.shareit";
+
+    public void setRate(int rate) {
+        this.rate = Math.max(1, rate);
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (rate == 1 || event.getLevel() != Level.INFO || !event.getLoggerName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        long seen = counters.computeIfAbsent(event.getLoggerName(), name -> new AtomicLong()).getAndIncrement();
+        return seen % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
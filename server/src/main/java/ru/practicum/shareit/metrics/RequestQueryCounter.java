@@ -0,0 +1,54 @@
+package ru.practicum.shareit.metrics;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts SQL statements prepared and entities hydrated on the current thread between
+ * {@link #start()} and {@link #finish()}. Work outside such a window is not counted.
+ */
+public class RequestQueryCounter implements StatementInspector, PostLoadEventListener {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    public void start() {
+        CURRENT.set(new Counts());
+    }
+
+    public Counts finish() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts != null ? counts : new Counts();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entities++;
+        }
+    }
+
+    public static final class Counts {
+        private long statements;
+        private long entities;
+
+        public long statements() {
+            return statements;
+        }
+
+        public long entities() {
+            return entities;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.EqualsAndHashCode;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.exception.ValidationException;
+
+/**
+ * Pageable for the {@code from}/{@code size} query parameters: {@code from} is a row offset and
+ * is used as is, not rounded down to a multiple of {@code size} as {@code PageRequest} would.
+ */
+@EqualsAndHashCode
+public final class OffsetPageRequest implements Pageable {
+
+    private final long offset;
+    private final int size;
+    private final Sort sort;
+
+    private OffsetPageRequest(long offset, int size, Sort sort) {
+        this.offset = offset;
+        this.size = size;
+        this.sort = sort;
+    }
+
+    public static OffsetPageRequest of(int from, int size) {
+        if (from < 0) {
+            throw new ValidationException("Параметр from не может быть отрицательным");
+        }
+        if (size < 1) {
+            throw new ValidationException("Размер страницы должен быть положительным");
+        }
+        return new OffsetPageRequest(from, size, Sort.unsorted());
+    }
+
+    /**
+     * Same as {@link #of(int, int)}, but a missing {@code size} means every row from {@code from} on.
+     */
+    public static Pageable of(int from, Integer size) {
+        if (size != null) {
+            return of(from, size.intValue());
+        }
+        return from == 0 ? Pageable.unpaged() : of(from, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int getPageNumber() {
+        return (int) (offset / size);
+    }
+
+    @Override
+    public int getPageSize() {
+        return size;
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public Pageable next() {
+        return new OffsetPageRequest(offset + size, size, sort);
+    }
+
+    @Override
+    public Pageable previousOrFirst() {
+        return new OffsetPageRequest(Math.max(0, offset - size), size, sort);
+    }
+
+    @Override
+    public Pageable first() {
+        return new OffsetPageRequest(0, size, sort);
+    }
+
+    @Override
+    public Pageable withPage(int pageNumber) {
+        return new OffsetPageRequest((long) pageNumber * size, size, sort);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return offset > 0;
+    }
+}
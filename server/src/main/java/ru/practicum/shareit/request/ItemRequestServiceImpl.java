@@ -1,37 +1,46 @@
 package ru.practicum.shareit.request;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
-import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemAnswerView;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.user.User;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserCache;
+import ru.practicum.shareit.user.UserSummary;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Timed(value = "shareit.service", histogram = true)
 public class ItemRequestServiceImpl implements ItemRequestService {
 
     private final ItemRequestRepository requestRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final ItemRepository itemRepository;
+    private final EntityManager entityManager;
 
     @Override
+    @Transactional
     public ItemRequestDto createRequest(Long userId, ItemRequestDto requestDto) {
-        log.info("Called createRequest(userId={}, requestDto={})", userId, requestDto);
-        User user = getUserById(userId);
+        log.info("Called createRequest(userId={})", userId);
+        log.debug("createRequest payload: {}", requestDto);
+        UserSummary user = getUserById(userId);
 
-        var request = ItemRequestMapper.toEntity(requestDto, user);
+        var request = ItemRequestMapper.toEntity(requestDto, entityManager.getReference(User.class, user.id()));
         request.setCreated(LocalDateTime.now());
 
         requestRepository.save(request);
@@ -41,6 +50,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemRequestDto> getUserRequests(Long userId) {
         log.info("Called getUserRequests(userId={})", userId);
         getUserById(userId);
@@ -48,39 +58,25 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         List<ItemRequest> requests = requestRepository.findByRequestorIdOrderByCreatedDesc(userId);
         log.debug("Found {} requests for userId={}", requests.size(), userId);
 
-        return requests.stream()
-                .map(r -> {
-                    List<Item> items = itemRepository.findByRequestId(r.getId());
-                    List<ItemShortDto> itemShortDtos = items.stream()
-                            .map(i -> new ItemShortDto(i.getId(), i.getName(), i.getOwner().getId()))
-                            .collect(Collectors.toList());
-                    return ItemRequestMapper.toDto(r, itemShortDtos);
-                })
-                .collect(Collectors.toList());
+        return toDtosWithItems(requests);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ItemRequestDto> getAllRequests(Long userId, int from, int size) {
         log.info("Called getAllRequests(userId={}, from={}, size={})", userId, from, size);
         getUserById(userId);
 
-        var pageable = PageRequest.of(from / size, size);
-        var page = requestRepository.findByRequestorIdNotOrderByCreatedDesc(userId, pageable);
+        var pageable = OffsetPageRequest.of(from, size);
+        List<ItemRequest> requests = requestRepository.findByRequestorIdNotOrderByCreatedDesc(userId, pageable);
         log.debug("Found {} requests in page (from={}, size={}) for userId={}",
-                page.getContent().size(), from, size, userId);
-
-        return page.getContent().stream()
-                .map(r -> {
-                    List<Item> items = itemRepository.findByRequestId(r.getId());
-                    List<ItemShortDto> itemShortDtos = items.stream()
-                            .map(i -> new ItemShortDto(i.getId(), i.getName(), i.getOwner().getId()))
-                            .collect(Collectors.toList());
-                    return ItemRequestMapper.toDto(r, itemShortDtos);
-                })
-                .collect(Collectors.toList());
+                requests.size(), from, size, userId);
+
+        return toDtosWithItems(requests);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ItemRequestDto getRequestById(Long userId, Long requestId) {
         log.info("Called getRequestById(userId={}, requestId={})", userId, requestId);
         getUserById(userId);
@@ -90,15 +86,25 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                     log.warn("Request with id={} not found", requestId);
                     return new NotFoundException("Запрос не найден");
                 });
-        List<Item> items = itemRepository.findByRequestId(requestId);
-        List<ItemShortDto> itemShortDtos = items.stream()
-                .map(i -> new ItemShortDto(i.getId(), i.getName(), i.getOwner().getId()))
+        return ItemRequestMapper.toDto(request, itemRepository.findShortByRequestId(requestId));
+    }
+
+    private List<ItemRequestDto> toDtosWithItems(List<ItemRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ItemShortDto>> items = itemRepository
+                .findByRequestIdIn(requests.stream().map(ItemRequest::getId).toList()).stream()
+                .collect(Collectors.groupingBy(ItemAnswerView::getRequestId,
+                        Collectors.mapping(i -> new ItemShortDto(i.getId(), i.getName(), i.getOwnerId()),
+                                Collectors.toList())));
+        return requests.stream()
+                .map(r -> ItemRequestMapper.toDto(r, items.getOrDefault(r.getId(), List.of())))
                 .collect(Collectors.toList());
-        return ItemRequestMapper.toDto(request, itemShortDtos);
     }
 
-    private User getUserById(Long id) {
-        return userRepository.findById(id)
+    private UserSummary getUserById(Long id) {
+        return userCache.findById(id)
                 .orElseThrow(() -> {
                     log.warn("User with id={} not found", id);
                     return new NotFoundException("Пользователь не найден");
@@ -4,9 +4,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
-@Table(name = "users", uniqueConstraints = @UniqueConstraint(columnNames = "email", name = "UQ_USER_EMAIL"))
+@DynamicUpdate
+@Table(name = "users")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
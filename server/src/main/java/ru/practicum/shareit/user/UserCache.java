@@ -0,0 +1,34 @@
+package ru.practicum.shareit.user;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.cache.EntityCache;
+import ru.practicum.shareit.cache.EntityCacheProperties;
+
+import java.util.Optional;
+
+/**
+ * Cached user summaries for existence and authorization checks. New entities reference the user
+ * through {@code EntityManager.getReference}, not through the summary.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final EntityCache<UserSummary> users;
+
+    public UserCache(UserRepository userRepository, EntityCacheProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.users = new EntityCache<>("users", properties, meterRegistry);
+    }
+
+    public Optional<UserSummary> findById(Long id) {
+        return users.get(id, key -> userRepository.findById(key).map(UserSummary::of).orElse(null));
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        users.evict(event.userId());
+    }
+}
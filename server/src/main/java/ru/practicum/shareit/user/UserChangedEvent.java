@@ -0,0 +1,4 @@
+package ru.practicum.shareit.user;
+
+public record UserChangedEvent(Long userId) {
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * User list pagination settings.
+ *
+ * @param maxPageSize upper bound for the {@code size} parameter; a request with a {@code cursor} but without
+ *                    {@code size} gets a page of this size, a request with neither gets every user
+ */
+@ConfigurationProperties(prefix = "shareit.user.pagination")
+public record UserPaginationProperties(@DefaultValue("100") int maxPageSize) {
+}
@@ -1,8 +1,9 @@
 package ru.practicum.shareit.user;
 
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserPage;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserService {
     UserDto addUser(UserDto userDto);
@@ -11,7 +12,9 @@ public interface UserService {
 
     UserDto getUser(Long userId);
 
-    List<UserDto> getUsers();
+    UserPage getUsers(String cursor, Integer size);
+
+    void exportUsers(Consumer<UserDto> sink);
 
     void deleteUser(Long userId);
 }
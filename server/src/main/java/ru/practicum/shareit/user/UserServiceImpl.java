@@ -1,44 +1,62 @@
 package ru.practicum.shareit.user;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.DuplicateEmailException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserPage;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
+@Timed(value = "shareit.service", histogram = true)
 public class UserServiceImpl implements UserService {
 
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserPaginationProperties userPaginationProperties;
 
     @Override
+    @Transactional
     public UserDto addUser(UserDto userDto) {
-        log.info("Called addUser(userDto={})", userDto);
+        log.info("Called addUser()");
+        log.debug("addUser payload: {}", userDto);
 
-        if (userDto.getEmail() != null && userRepository.findUserByEmail(userDto.getEmail()).isPresent()) {
-            log.warn("Email {} is already used by another user. Throwing DuplicateEmailException.", userDto.getEmail());
-            throw new DuplicateEmailException("Пользователь с таким email уже существует");
-        }
         User user = new User();
         user.setName(userDto.getName());
         user.setEmail(userDto.getEmail());
-        userRepository.save(user);
+        writeUnique(user.getEmail(), () -> userRepository.saveAndFlush(user));
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
         log.debug("User saved: {}", user);
 
         return UserMapper.toDto(user);
     }
 
     @Override
+    @Transactional
     public UserDto updateUser(Long userId, UserDto userDto) {
-        log.info("Called updateUser(userId={}, userDto={})", userId, userDto);
+        log.info("Called updateUser(userId={})", userId);
+        log.debug("updateUser payload: {}", userDto);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
@@ -48,22 +66,19 @@ public class UserServiceImpl implements UserService {
         if (userDto.getName() != null) {
             user.setName(userDto.getName());
         }
-        if (userDto.getEmail() != null && !userDto.getEmail().equalsIgnoreCase(user.getEmail())) {
-            Optional<User> duplicate = userRepository.findUserByEmail(userDto.getEmail());
-            if (duplicate.isPresent() && !duplicate.get().getId().equals(userId)) {
-                log.warn("Email {} is already used by another user {}. Throwing DuplicateEmailException.",
-                        userDto.getEmail(), duplicate.get().getId());
-                throw new DuplicateEmailException("Пользователь с таким email уже существует");
-            }
+        if (userDto.getEmail() != null) {
             user.setEmail(userDto.getEmail());
         }
-        userRepository.save(user);
+        // flush now so an email clash surfaces here, not at commit
+        writeUnique(user.getEmail(), userRepository::flush);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
 
         log.debug("User {} updated to: {}", userId, user);
         return UserMapper.toDto(user);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDto getUser(Long userId) {
         log.info("Called getUser(userId={})", userId);
         User user = userRepository.findById(userId)
@@ -76,19 +91,87 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<UserDto> getUsers() {
-        log.info("Called getUsers()");
-        List<User> all = userRepository.findAll();
-        log.debug("Found {} users total", all.size());
-        return all.stream()
+    @Transactional(readOnly = true)
+    public UserPage getUsers(String cursor, Integer size) {
+        log.info("Called getUsers(cursor={}, size={})", cursor, size);
+        if ((cursor == null || cursor.isBlank()) && size == null) {
+            // callers that never asked for paging keep getting every user
+            List<UserDto> all = userRepository.findAll(Sort.by("id")).stream()
+                    .map(UserMapper::toDto)
+                    .collect(Collectors.toList());
+            log.debug("Found {} users", all.size());
+            return new UserPage(all, null);
+        }
+        Window<User> users = userRepository.findAllByOrderByIdAsc(decodeCursor(cursor), pageLimit(size));
+        log.debug("Found {} users", users.size());
+        List<UserDto> content = users.stream()
                 .map(UserMapper::toDto)
                 .collect(Collectors.toList());
+        String nextCursor = users.hasNext() && !users.isEmpty()
+                ? String.valueOf(users.getContent().get(users.size() - 1).getId())
+                : null;
+        return new UserPage(content, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<UserDto> sink) {
+        log.info("Called exportUsers()");
+        try (Stream<UserDto> users = userRepository.streamAllAsDtos()) {
+            users.forEach(sink);
+        }
     }
 
     @Override
+    @Transactional
     public void deleteUser(Long userId) {
         log.info("Called deleteUser(userId={})", userId);
         userRepository.deleteById(userId);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
         log.debug("User {} deleted (if existed).", userId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes the user and lets the case-insensitive unique index on email decide conflicts: one
+     * statement, and no window between a lookup and the write for a concurrent sign-up to slip in.
+     */
+    private void writeUnique(String email, Runnable write) {
+        try {
+            write.run();
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateKey(e)) {
+                throw e;
+            }
+            log.warn("Email {} is already used by another user. Throwing DuplicateEmailException.", email);
+            throw new DuplicateEmailException("Пользователь с таким email уже существует");
+        }
+    }
+
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sqlException
+                && UNIQUE_VIOLATION.equals(sqlException.getSQLState());
+    }
+
+    private static ScrollPosition decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            return ScrollPosition.forward(Map.of("id", Long.parseLong(cursor)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректный курсор");
+        }
+    }
+
+    private Limit pageLimit(Integer size) {
+        int maxPageSize = userPaginationProperties.maxPageSize();
+        if (size == null) {
+            return Limit.of(maxPageSize);
+        }
+        if (size < 1) {
+            log.warn("Page size {} is not positive. Throwing exception.", size);
+            throw new IllegalArgumentException("Размер страницы должен быть положительным");
+        }
+        return Limit.of(Math.min(size, maxPageSize));
+    }
+}
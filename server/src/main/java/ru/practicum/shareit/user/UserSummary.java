@@ -0,0 +1,8 @@
+package ru.practicum.shareit.user;
+
+public record UserSummary(Long id, String name, String email) {
+
+    public static UserSummary of(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getEmail());
+    }
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.user.dto;
+
+import java.util.List;
+
+public record UserPage(List<UserDto> users, String nextCursor) {
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+
+/**
+ * Adds {@code Cache-Control} and body-hash ETags to item and request GETs, so the gateway can
+ * reuse and revalidate them. Responses vary by {@code X-Sharer-User-Id} and are marked private.
+ */
+@Configuration
+public class HttpCacheConfig {
+
+    private static final String[] CACHED_PATHS = {"/items/*", "/requests/*"};
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> cacheControlFilter(HttpCacheProperties properties) {
+        String cacheControl = CacheControl.maxAge(properties.maxAge()).cachePrivate().getHeaderValue();
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(
+                new OncePerRequestFilter() {
+                    @Override
+                    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                                    FilterChain filterChain) throws ServletException, IOException {
+                        if (HttpMethod.GET.matches(request.getMethod())) {
+                            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+                            response.setHeader(HttpHeaders.VARY, "X-Sharer-User-Id");
+                        }
+                        filterChain.doFilter(request, response);
+                    }
+                });
+        registration.addUrlPatterns(CACHED_PATHS);
+        registration.setOrder(1);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(CACHED_PATHS);
+        registration.setOrder(2);
+        return registration;
+    }
+}
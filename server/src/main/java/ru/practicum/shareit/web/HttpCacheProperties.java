@@ -0,0 +1,16 @@
+package ru.practicum.shareit.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * HTTP caching of item and request GET responses.
+ *
+ * @param maxAge how long a client may reuse a response without revalidating it; zero makes every
+ *               reuse a conditional request answered by the ETag
+ */
+@ConfigurationProperties(prefix = "shareit.http-cache")
+public record HttpCacheProperties(@DefaultValue("0s") Duration maxAge) {
+}
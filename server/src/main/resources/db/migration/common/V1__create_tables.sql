@@ -1,4 +1,4 @@
-CREATE TABLE IF NOT EXISTS users (
+CREATE TABLE users (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
   name VARCHAR(255) NOT NULL,
   email VARCHAR(512) NOT NULL,
@@ -6,7 +6,7 @@ CREATE TABLE IF NOT EXISTS users (
   CONSTRAINT UQ_USER_EMAIL UNIQUE (email)
 );
 
-CREATE TABLE IF NOT EXISTS item_requests (
+CREATE TABLE item_requests (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
   description TEXT NOT NULL,
   requestor_id BIGINT NOT NULL,
@@ -15,7 +15,7 @@ CREATE TABLE IF NOT EXISTS item_requests (
   CONSTRAINT fk_item_request_requestor FOREIGN KEY (requestor_id) REFERENCES users(id)
 );
 
-CREATE TABLE IF NOT EXISTS items (
+CREATE TABLE items (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
   name VARCHAR(255) NOT NULL,
   description TEXT NOT NULL,
@@ -27,7 +27,7 @@ CREATE TABLE IF NOT EXISTS items (
   CONSTRAINT fk_item_request FOREIGN KEY (request_id) REFERENCES item_requests(id)
 );
 
-CREATE TABLE IF NOT EXISTS comments (
+CREATE TABLE comments (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
   text TEXT NOT NULL,
   item_id BIGINT NOT NULL,
@@ -38,7 +38,7 @@ CREATE TABLE IF NOT EXISTS comments (
   CONSTRAINT fk_comment_author FOREIGN KEY (author_id) REFERENCES users(id)
 );
 
-CREATE TABLE IF NOT EXISTS bookings (
+CREATE TABLE bookings (
   id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
   start_time TIMESTAMP NOT NULL,
   end_time TIMESTAMP NOT NULL,
@@ -48,4 +48,4 @@ CREATE TABLE IF NOT EXISTS bookings (
   CONSTRAINT pk_booking PRIMARY KEY (id),
   CONSTRAINT fk_booking_item FOREIGN KEY (item_id) REFERENCES items(id),
   CONSTRAINT fk_booking_booker FOREIGN KEY (booker_id) REFERENCES users(id)
-);
\ No newline at end of file
+);
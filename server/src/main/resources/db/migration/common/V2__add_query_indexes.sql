@@ -0,0 +1,26 @@
+-- getItemsByOwner, owner booking listings (join on items), existsByOwnerId
+CREATE INDEX IF NOT EXISTS ix_items_owner ON items (owner_id);
+
+-- item request answers (findByRequestId)
+CREATE INDEX IF NOT EXISTS ix_items_request ON items (request_id);
+
+-- booker listings: ALL, CURRENT, PAST, FUTURE keyset pages
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_start ON bookings (booker_id, start_time DESC, id DESC);
+
+-- booker listings: WAITING, REJECTED keyset pages
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_status_start ON bookings (booker_id, status, start_time DESC, id DESC);
+
+-- owner listings, last/next booking per item, overlap index warm-up
+CREATE INDEX IF NOT EXISTS ix_bookings_item_start ON bookings (item_id, start_time DESC, id DESC);
+
+-- comment eligibility (findByBookerIdAndItemIdAndStatus)
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_item_status ON bookings (booker_id, item_id, status);
+
+-- item comments, single item and batched
+CREATE INDEX IF NOT EXISTS ix_comments_item_created ON comments (item_id, created);
+
+-- own requests newest first
+CREATE INDEX IF NOT EXISTS ix_item_requests_requestor_created ON item_requests (requestor_id, created DESC);
+
+-- other users' requests newest first, paged
+CREATE INDEX IF NOT EXISTS ix_item_requests_created ON item_requests (created DESC);
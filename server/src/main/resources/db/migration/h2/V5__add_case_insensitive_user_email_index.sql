@@ -0,0 +1,6 @@
+-- H2 has no expression indexes; a generated column carries the lower-cased email instead
+ALTER TABLE users ADD COLUMN IF NOT EXISTS email_lower VARCHAR(512) GENERATED ALWAYS AS (LOWER(email));
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (email_lower);
+
+ALTER TABLE users DROP CONSTRAINT IF EXISTS UQ_USER_EMAIL;
@@ -0,0 +1,5 @@
+-- H2 databases are in-memory and migrated empty, so the first block of 50 ids starts at 1
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 50 INCREMENT BY 50;
+
+ALTER TABLE items ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE items ALTER COLUMN id SET DEFAULT NEXT VALUE FOR items_seq;
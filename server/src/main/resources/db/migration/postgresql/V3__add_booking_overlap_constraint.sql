@@ -0,0 +1,15 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings DROP CONSTRAINT IF EXISTS ex_booking_item_period;
+
+ALTER TABLE bookings ADD CONSTRAINT ex_booking_item_period
+  EXCLUDE USING gist (item_id WITH =, tsrange(start_time, end_time) WITH &&)
+  WHERE (status IN ('WAITING', 'APPROVED'));
+
+-- overlap index warm-up (findByItemIdAndStatusIn) reads only active bookings
+CREATE INDEX IF NOT EXISTS ix_bookings_item_active ON bookings (item_id)
+  INCLUDE (start_time, end_time) WHERE status IN ('WAITING', 'APPROVED');
+
+-- comment eligibility only ever asks for approved bookings
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_item_approved ON bookings (booker_id, item_id)
+  INCLUDE (end_time) WHERE status = 'APPROVED';
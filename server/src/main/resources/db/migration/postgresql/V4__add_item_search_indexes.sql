@@ -0,0 +1,10 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS ix_items_name_trgm ON items
+  USING gin (lower(name) gin_trgm_ops) WHERE available;
+
+CREATE INDEX IF NOT EXISTS ix_items_description_trgm ON items
+  USING gin (lower(description) gin_trgm_ops) WHERE available;
+
+CREATE INDEX IF NOT EXISTS ix_items_search_tsv ON items
+  USING gin (to_tsvector('simple', name || ' ' || description)) WHERE available;
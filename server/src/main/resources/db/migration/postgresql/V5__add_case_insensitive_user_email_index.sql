@@ -0,0 +1,4 @@
+-- registration relies on this index alone, so emails differing only in case must collide too
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (lower(email));
+
+ALTER TABLE users DROP CONSTRAINT IF EXISTS uq_user_email;
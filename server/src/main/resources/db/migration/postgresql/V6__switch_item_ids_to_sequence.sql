@@ -0,0 +1,8 @@
+-- Hibernate hands out ids in blocks of 50 (pooled optimizer), which lets it batch item inserts;
+-- the first block starts right after the existing rows
+CREATE SEQUENCE IF NOT EXISTS items_seq INCREMENT BY 50;
+
+SELECT setval('items_seq', COALESCE((SELECT MAX(id) FROM items), 0) + 50, false);
+
+ALTER TABLE items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE items ALTER COLUMN id SET DEFAULT nextval('items_seq');
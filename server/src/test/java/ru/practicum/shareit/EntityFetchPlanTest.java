@@ -0,0 +1,170 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.comment.Comment;
+import ru.practicum.shareit.item.comment.CommentRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemOwnerDto;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.request.ItemRequestService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that every read endpoint loads exactly the entity graph its mapper needs:
+ * a fixed number of statements and no lazy association initialized afterwards.
+ */
+@SpringBootTest
+@Transactional
+class EntityFetchPlanTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User owner;
+    private User booker;
+    private ItemRequest request;
+    private Item item;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "fetch-owner@example.com"));
+        booker = userRepository.save(new User(null, "Booker", "fetch-booker@example.com"));
+        request = itemRequestRepository.save(new ItemRequest(null, "Need a drill", booker, LocalDateTime.now()));
+        item = itemRepository.save(new Item(null, "Drill", "Cordless drill", true, owner, request));
+        Item other = itemRepository.save(new Item(null, "Saw", "Hand saw", true, owner, request));
+        LocalDateTime now = LocalDateTime.now();
+        booking = bookingRepository.save(new Booking(null, now.minusDays(3), now.minusDays(2), item, booker,
+                BookingStatus.APPROVED));
+        bookingRepository.save(new Booking(null, now.plusDays(1), now.plusDays(2), item, booker,
+                BookingStatus.WAITING));
+        bookingRepository.save(new Booking(null, now.plusDays(3), now.plusDays(4), other, booker,
+                BookingStatus.WAITING));
+        commentRepository.save(new Comment(null, "Great", item, booker, now.minusDays(1)));
+        commentRepository.save(new Comment(null, "Loud", item, owner, now.minusHours(1)));
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testGetBooking_loadsBookingItemAndBookerInOneStatement() {
+        BookingDto result = bookingService.getBooking(booking.getId(), booker.getId());
+
+        assertThat(result.getBooker().getName()).isEqualTo("Booker");
+        assertThat(result.getItem().getName()).isEqualTo("Drill");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(3);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void testGetBookingsByBooker_loadsPageWithItemsAndBookerInOneStatement() {
+        List<BookingDto> result = bookingService.getBookingsByBooker(booker.getId(), BookingState.ALL, null, null)
+                .bookings();
+
+        assertThat(result).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(3 + 2 + 1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void testGetBookingsByOwner_loadsPageWithItemsAndBookerAfterOwnerCheck() {
+        List<BookingDto> result = bookingService.getBookingsByOwner(owner.getId(), BookingState.WAITING, null, null)
+                .bookings();
+
+        assertThat(result).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(2 + 2 + 1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void testGetItemById_ownerViewLoadsItemAndBookingsAndProjectsComments() {
+        ItemOwnerDto result = (ItemOwnerDto) itemService.getItemById(item.getId(), owner.getId());
+
+        assertThat(result.getComments()).extracting("authorName").containsExactly("Booker", "Owner");
+        assertThat(result.getLastBooking()).isNotNull();
+        assertThat(result.getNextBooking()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1 + 2);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void testGetItemsByOwner_doesNotLoadOwnerOrRequest() {
+        List<ItemDto> result = itemService.getItemsByOwner(owner.getId());
+
+        assertThat(result).extracting(ItemDto::getRequestId).containsOnly(request.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(2 + 2 + 2);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void testGetRequestById_projectsItemsWithoutLoadingThem() {
+        ItemRequestDto result = itemRequestService.getRequestById(owner.getId(), request.getId());
+
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1 + 1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+}
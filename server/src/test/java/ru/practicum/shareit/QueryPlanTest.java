@@ -0,0 +1,172 @@
+package ru.practicum.shareit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.comment.CommentRepository;
+import ru.practicum.shareit.metrics.RequestQueryCounter;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Calls each hot repository method, captures the SQL Hibernate prepares for it and runs EXPLAIN on
+ * that SQL against the migrated embedded schema; fails when a plan falls back to a full table scan.
+ * Keyset methods are called with a cursor, so their plans include the cursor predicate. Partial and
+ * covering indexes from the PostgreSQL-only migrations are not visible here.
+ */
+@Slf4j
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final Limit PAGE = Limit.of(11);
+    private static final List<String> PREPARED = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Records every statement Hibernate prepares, next to the per-request counting it already does.
+     */
+    @TestConfiguration
+    static class CaptureStatements {
+
+        @Bean
+        static BeanPostProcessor capturingRequestQueryCounter() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof RequestQueryCounter)) {
+                        return bean;
+                    }
+                    return new RequestQueryCounter() {
+                        @Override
+                        public String inspect(String sql) {
+                            PREPARED.add(sql);
+                            return super.inspect(sql);
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    Stream<Arguments> hotQueries() {
+        ScrollPosition afterBooking = cursor("startTime", NOW, "id", 100L);
+        return Stream.of(
+                query("BookingRepository.findByBookerIdOrderByStartTimeDescIdDesc", () -> bookingRepository
+                        .findByBookerIdOrderByStartTimeDescIdDesc(1L, afterBooking, PAGE)),
+                query("BookingRepository.findByBookerIdAndStartTimeBeforeAndEndTimeAfter...", () -> bookingRepository
+                        .findByBookerIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeDescIdDesc(1L, NOW, NOW,
+                                afterBooking, PAGE)),
+                query("BookingRepository.findByBookerIdAndEndTimeBeforeOrderByStartTimeDescIdDesc", () ->
+                        bookingRepository.findByBookerIdAndEndTimeBeforeOrderByStartTimeDescIdDesc(1L, NOW,
+                                afterBooking, PAGE)),
+                query("BookingRepository.findByBookerIdAndStartTimeAfterOrderByStartTimeDescIdDesc", () ->
+                        bookingRepository.findByBookerIdAndStartTimeAfterOrderByStartTimeDescIdDesc(1L, NOW,
+                                afterBooking, PAGE)),
+                query("BookingRepository.findByBookerIdAndStatusOrderByStartTimeDescIdDesc", () -> bookingRepository
+                        .findByBookerIdAndStatusOrderByStartTimeDescIdDesc(1L, BookingStatus.WAITING, afterBooking,
+                                PAGE)),
+                query("BookingRepository.findByItemOwnerIdOrderByStartTimeDescIdDesc", () -> bookingRepository
+                        .findByItemOwnerIdOrderByStartTimeDescIdDesc(1L, afterBooking, PAGE)),
+                query("BookingRepository.findByItemOwnerIdAndStartTimeBeforeAndEndTimeAfter...", () ->
+                        bookingRepository.findByItemOwnerIdAndStartTimeBeforeAndEndTimeAfterOrderByStartTimeDescIdDesc(
+                                1L, NOW, NOW, afterBooking, PAGE)),
+                query("BookingRepository.findByItemOwnerIdAndEndTimeBeforeOrderByStartTimeDescIdDesc", () ->
+                        bookingRepository.findByItemOwnerIdAndEndTimeBeforeOrderByStartTimeDescIdDesc(1L, NOW,
+                                afterBooking, PAGE)),
+                query("BookingRepository.findByItemOwnerIdAndStartTimeAfterOrderByStartTimeDescIdDesc", () ->
+                        bookingRepository.findByItemOwnerIdAndStartTimeAfterOrderByStartTimeDescIdDesc(1L, NOW,
+                                afterBooking, PAGE)),
+                query("BookingRepository.findByItemOwnerIdAndStatusOrderByStartTimeDescIdDesc", () ->
+                        bookingRepository.findByItemOwnerIdAndStatusOrderByStartTimeDescIdDesc(1L,
+                                BookingStatus.WAITING, afterBooking, PAGE)),
+                query("BookingRepository.findByItemIdAndStatusIn", () -> bookingRepository
+                        .findByItemIdAndStatusIn(1L, List.of(BookingStatus.WAITING, BookingStatus.APPROVED))),
+                query("BookingRepository.findByBookerIdAndItemIdAndStatus", () -> bookingRepository
+                        .findByBookerIdAndItemIdAndStatus(1L, 1L, BookingStatus.APPROVED)),
+                query("BookingRepository.findLastAndNextByItemIdIn", () -> bookingRepository
+                        .findLastAndNextByItemIdIn(List.of(1L, 2L, 3L), NOW)),
+                query("BookingRepository.findApprovalViewsByIdIn", () -> bookingRepository
+                        .findApprovalViewsByIdIn(List.of(1L, 2L, 3L))),
+                query("ItemRepository.findByOwnerId", () -> itemRepository.findByOwnerId(1L)),
+                query("ItemRepository.findShortByRequestId", () -> itemRepository.findShortByRequestId(1L)),
+                query("ItemRepository.findByRequestIdIn", () -> itemRepository.findByRequestIdIn(List.of(1L, 2L, 3L))),
+                query("CommentRepository.findDtoByItemId", () -> commentRepository.findDtoByItemId(1L)),
+                query("CommentRepository.findByItemIdIn", () -> commentRepository.findByItemIdIn(List.of(1L, 2L, 3L))),
+                query("ItemRequestRepository.findByRequestorIdOrderByCreatedDesc", () -> itemRequestRepository
+                        .findByRequestorIdOrderByCreatedDesc(1L)),
+                query("ItemRequestRepository.findByRequestorIdNotOrderByCreatedDesc", () -> itemRequestRepository
+                        .findByRequestorIdNotOrderByCreatedDesc(1L, PageRequest.of(0, 10))),
+                query("UserRepository.findAllByOrderByIdAsc", () -> userRepository
+                        .findAllByOrderByIdAsc(cursor("id", 1L), Limit.of(101))));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void testHotQuery_usesIndex(String method, Runnable call) {
+        PREPARED.clear();
+        call.run();
+        List<String> statements = List.copyOf(PREPARED);
+
+        assertThat(statements).as(method).isNotEmpty();
+        for (String sql : statements) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+            log.info("Plan for {}:\n{}", method, plan);
+
+            assertThat(plan).as(method).doesNotContain("tableScan");
+        }
+    }
+
+    private static Arguments query(String method, Runnable call) {
+        return Arguments.of(method, call);
+    }
+
+    private static ScrollPosition cursor(Object... keysAndValues) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            keys.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return ScrollPosition.forward(keys);
+    }
+}
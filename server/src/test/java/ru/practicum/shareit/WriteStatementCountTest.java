@@ -0,0 +1,131 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements behind the update paths: the entity is read once inside the service
+ * transaction and written by dirty checking, without a merge select or a full-row update.
+ * Bulk item creation draws ids from the pooled sequence and inserts in JDBC batches.
+ */
+@SpringBootTest
+@Transactional
+class WriteStatementCountTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User owner;
+    private Item item;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Owner", "write-owner@example.com"));
+        User booker = userRepository.save(new User(null, "Booker", "write-booker@example.com"));
+        item = itemRepository.save(new Item(null, "Drill", "Cordless drill", true, owner, null));
+        LocalDateTime now = LocalDateTime.now();
+        booking = bookingRepository.save(new Booking(null, now.plusDays(1), now.plusDays(2), item, booker,
+                BookingStatus.WAITING));
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testApproveBooking_isOneConditionalUpdateAndOneSelect() {
+        bookingService.approveBooking(booking.getId(), true, owner.getId());
+        entityManager.flush();
+
+        // conditional update, then the response read; no entity is dirty-checked
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        entityManager.clear();
+        assertThat(bookingRepository.findById(booking.getId())).get()
+                .extracting(Booking::getStatus).isEqualTo(BookingStatus.APPROVED);
+    }
+
+    @Test
+    void testUpdateUser_isOneSelectAndOneUpdate() {
+        userService.updateUser(owner.getId(), new UserDto(null, "Renamed", null));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testUpdateItem_writesWithoutMergeSelect() {
+        itemService.updateItem(item.getId(), new ItemDto(null, null, null, false, null, null), owner.getId());
+        entityManager.flush();
+
+        // item select, comment projection, update
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testAddItems_insertsInBatches() {
+        List<ItemDto> items = IntStream.range(0, 120)
+                .mapToObj(i -> new ItemDto(null, "Item " + i, "Imported", true, null, null))
+                .toList();
+
+        List<Long> ids = itemService.addItems(items, owner.getId());
+        entityManager.flush();
+
+        assertThat(ids).hasSize(120).doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        // owner lookup, a sequence call per 50 ids and a prepared insert per batch of 50
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1 + 3 + 3);
+    }
+}
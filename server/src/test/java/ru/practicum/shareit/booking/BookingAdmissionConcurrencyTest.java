@@ -0,0 +1,111 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+class BookingAdmissionConcurrencyTest {
+
+    private static final int BOOKINGS = 300;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private User booker;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Stress Owner", "stress-owner@example.com"));
+        booker = userRepository.save(new User(null, "Stress Booker", "stress-booker@example.com"));
+        item = itemRepository.save(new Item(null, "Stress Item", "Contended item", true, owner, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll(bookingRepository.findByItemIdAndStatusIn(item.getId(),
+                List.of(BookingStatus.values())));
+        itemRepository.delete(item);
+        userRepository.deleteAll(List.of(owner, booker));
+    }
+
+    @Test
+    void testParallelBookings_neverOverlap() throws Exception {
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            BookingDto dto = new BookingDto();
+            dto.setItemId(item.getId());
+            dto.setStart(base.plusHours(i));
+            dto.setEnd(base.plusHours(i + 3));
+            tasks.add(() -> {
+                try {
+                    bookingService.addBooking(dto, booker.getId());
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        long admitted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                admitted++;
+            }
+        }
+        log.info("Admission stress: {} attempts, {} admitted, {} threads, {} attempts/s",
+                BOOKINGS, admitted, THREADS, Math.round(BOOKINGS / seconds));
+
+        List<Booking> active = new ArrayList<>(bookingRepository.findByItemIdAndStatusIn(item.getId(),
+                BookingIntervalIndex.ACTIVE_STATUSES));
+        active.sort(Comparator.comparing(Booking::getStartTime));
+        assertThat(active).hasSize((int) admitted);
+        assertThat(admitted).isPositive();
+        for (int i = 1; i < active.size(); i++) {
+            assertThat(active.get(i).getStartTime()).isAfterOrEqualTo(active.get(i - 1).getEndTime());
+        }
+    }
+}
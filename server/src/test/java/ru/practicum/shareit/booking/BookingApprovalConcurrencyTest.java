@@ -0,0 +1,106 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.exception.BookingAlreadyProcessedException;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BookingApprovalConcurrencyTest {
+
+    private static final int BOOKINGS = 100;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private User booker;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(new User(null, "Approval Owner", "approval-owner@example.com"));
+        booker = userRepository.save(new User(null, "Approval Booker", "approval-booker@example.com"));
+        item = itemRepository.save(new Item(null, "Approval Item", "Contended item", true, owner, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll(bookingRepository.findByItemIdAndStatusIn(item.getId(),
+                List.of(BookingStatus.values())));
+        itemRepository.delete(item);
+        userRepository.deleteAll(List.of(owner, booker));
+    }
+
+    @Test
+    void testConcurrentDecisions_exactlyOneWinsPerBooking() throws Exception {
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            bookings.add(new Booking(null, base.plusHours(2L * i), base.plusHours(2L * i + 1), item, booker,
+                    BookingStatus.WAITING));
+        }
+        bookingRepository.saveAll(bookings);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (Booking booking : bookings) {
+                CountDownLatch start = new CountDownLatch(1);
+                Future<BookingStatus> approve = executor.submit(decide(start, booking.getId(), true));
+                Future<BookingStatus> reject = executor.submit(decide(start, booking.getId(), false));
+                start.countDown();
+
+                List<BookingStatus> outcomes = List.of(approve.get(), reject.get());
+                assertThat(outcomes).containsOnlyOnce(BookingStatus.WAITING);
+                BookingStatus winner = outcomes.get(0) == BookingStatus.WAITING ? outcomes.get(1) : outcomes.get(0);
+                assertThat(bookingRepository.findById(booking.getId())).get()
+                        .extracting(Booking::getStatus).isEqualTo(winner);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns the status the call set, or {@link BookingStatus#WAITING} if it lost the race.
+     */
+    private Callable<BookingStatus> decide(CountDownLatch start, Long bookingId, boolean approved) {
+        return () -> {
+            start.await();
+            try {
+                BookingDto result = bookingService.approveBooking(bookingId, approved, owner.getId());
+                return result.getStatus();
+            } catch (BookingAlreadyProcessedException e) {
+                assertThat(e.getMessage()).isEqualTo("Бронирование уже обработано");
+                return BookingStatus.WAITING;
+            }
+        };
+    }
+}
@@ -2,14 +2,17 @@ package ru.practicum.shareit.booking;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,8 +20,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.exception.BookingAlreadyProcessedException;
 
 @WebMvcTest(BookingController.class)
 public class BookingControllerTest {
@@ -71,6 +78,34 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$.status").value("APPROVED"));
     }
 
+    @Test
+    public void testApproveBooking_alreadyProcessedReturnsConflict() throws Exception {
+        Mockito.when(bookingService.approveBooking(eq(1L), eq(false), eq(1L)))
+                .thenThrow(new BookingAlreadyProcessedException("Бронирование уже обработано"));
+
+        mockMvc.perform(patch("/bookings/1")
+                        .header("X-Sharer-User-Id", "1")
+                        .param("approved", "false"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Бронирование уже обработано"));
+    }
+
+    @Test
+    public void testDecideBookings() throws Exception {
+        List<BookingDecisionDto> decisions = List.of(new BookingDecisionDto(1L, true), new BookingDecisionDto(2L, false));
+        Mockito.when(bookingService.decideBookings(eq(decisions), eq(1L)))
+                .thenReturn(List.of(new BookingDecisionResultDto(1L, BookingStatus.APPROVED, null),
+                        new BookingDecisionResultDto(2L, null, "Бронирование не найдено")));
+
+        mockMvc.perform(patch("/bookings")
+                        .header("X-Sharer-User-Id", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(decisions)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("APPROVED"))
+                .andExpect(jsonPath("$[1].error").value("Бронирование не найдено"));
+    }
+
     @Test
     public void testGetBooking() throws Exception {
         BookingDto bookingDto = new BookingDto();
@@ -93,8 +128,8 @@ public class BookingControllerTest {
         bookingDto.setId(1L);
         bookingDto.setStatus(BookingStatus.APPROVED);
 
-        Mockito.when(bookingService.getBookingsByBooker(eq(2L), eq(BookingState.ALL)))
-                .thenReturn(java.util.List.of(bookingDto));
+        Mockito.when(bookingService.getBookingsByBooker(eq(2L), eq(BookingState.ALL), isNull(), isNull()))
+                .thenReturn(new BookingPage(java.util.List.of(bookingDto), null));
 
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", "2")
@@ -110,8 +145,8 @@ public class BookingControllerTest {
         bookingDto.setId(1L);
         bookingDto.setStatus(BookingStatus.APPROVED);
 
-        Mockito.when(bookingService.getBookingsByOwner(eq(1L), eq(BookingState.ALL)))
-                .thenReturn(java.util.List.of(bookingDto));
+        Mockito.when(bookingService.getBookingsByOwner(eq(1L), eq(BookingState.ALL), isNull(), isNull()))
+                .thenReturn(new BookingPage(java.util.List.of(bookingDto), null));
 
         mockMvc.perform(get("/bookings/owner")
                         .header("X-Sharer-User-Id", "1")
@@ -120,4 +155,21 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].status").value("APPROVED"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetBookingsByBooker_advertisesNextCursor() throws Exception {
+        BookingDto bookingDto = new BookingDto();
+        bookingDto.setId(3L);
+
+        Mockito.when(bookingService.getBookingsByBooker(eq(2L), eq(BookingState.ALL), eq("abc"), eq(1)))
+                .thenReturn(new BookingPage(java.util.List.of(bookingDto), "def"));
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", "2")
+                        .param("cursor", "abc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "def"))
+                .andExpect(jsonPath("$[0].id").value(3));
+    }
+}
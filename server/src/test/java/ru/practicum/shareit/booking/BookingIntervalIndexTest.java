@@ -0,0 +1,101 @@
+package ru.practicum.shareit.booking;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import ru.practicum.shareit.item.Item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BookingIntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private BookingRepository bookingRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private BookingIntervalIndex index;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        bookingRepository = Mockito.mock(BookingRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        index = new BookingIntervalIndex(bookingRepository, meterRegistry);
+        item = new Item();
+        item.setId(1L);
+    }
+
+    @Test
+    void testOverlaps_warmsLazilyOnceAndCountsHits() {
+        Mockito.when(bookingRepository.findByItemIdAndStatusIn(eq(1L), any()))
+                .thenReturn(List.of(booking(10L, 1, 3, BookingStatus.APPROVED)));
+
+        assertThat(index.overlaps(1L, at(2), at(4))).isTrue();
+        assertThat(index.overlaps(1L, at(3), at(4))).isFalse();
+        assertThat(index.overlaps(1L, at(0), at(1))).isFalse();
+
+        verify(bookingRepository, times(1)).findByItemIdAndStatusIn(eq(1L), any());
+        assertThat(meterRegistry.counter("booking.overlap.index.misses").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("booking.overlap.index.hits").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer("booking.overlap.index.rebuilds").count()).isEqualTo(1);
+    }
+
+    @Test
+    void testUpdate_addsAndRemovesReservations() {
+        Mockito.when(bookingRepository.findByItemIdAndStatusIn(eq(1L), any())).thenReturn(List.of());
+        assertThat(index.overlaps(1L, at(1), at(2))).isFalse();
+
+        Booking waiting = booking(10L, 1, 5, BookingStatus.WAITING);
+        index.update(waiting);
+        index.update(booking(11L, 4, 8, BookingStatus.WAITING));
+        assertThat(index.overlaps(1L, at(2), at(3))).isTrue();
+        assertThat(index.overlaps(1L, at(7), at(9))).isTrue();
+
+        waiting.setStatus(BookingStatus.REJECTED);
+        index.update(waiting);
+        assertThat(index.overlaps(1L, at(2), at(3))).isFalse();
+        assertThat(index.overlaps(1L, at(5), at(6))).isTrue();
+    }
+
+    @Test
+    void testEvict_forcesRebuild() {
+        Mockito.when(bookingRepository.findByItemIdAndStatusIn(eq(1L), any())).thenReturn(List.of());
+        index.overlaps(1L, at(1), at(2));
+        index.evict(1L);
+        index.overlaps(1L, at(1), at(2));
+
+        verify(bookingRepository, times(2)).findByItemIdAndStatusIn(eq(1L), any());
+    }
+
+    @Test
+    void testTimeline_mergesNestedAndAdjacentRanges() {
+        BookingIntervalIndex.ItemTimeline timeline = new BookingIntervalIndex.ItemTimeline();
+        timeline.put(1L, at(0), at(10));
+        timeline.put(2L, at(2), at(3));
+        timeline.put(3L, at(10), at(12));
+
+        assertThat(timeline.overlaps(at(5), at(6))).isTrue();
+        assertThat(timeline.overlaps(at(11), at(20))).isTrue();
+        assertThat(timeline.overlaps(at(12), at(20))).isFalse();
+
+        timeline.remove(1L);
+        assertThat(timeline.overlaps(at(5), at(6))).isFalse();
+        assertThat(timeline.overlaps(at(2), at(3))).isTrue();
+    }
+
+    private Booking booking(Long id, int startHour, int endHour, BookingStatus status) {
+        return new Booking(id, at(startHour), at(endHour), item, null, status);
+    }
+
+    private static LocalDateTime at(int hour) {
+        return BASE.plusHours(hour);
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,9 +13,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.exception.ForbiddenException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.user.User;
@@ -209,6 +214,63 @@ public class BookingServiceImplTest {
         assertThat(exception.getMessage()).isEqualTo("Подтверждать бронирование может только владелец вещи");
     }
 
+    // --- decideBookings() ---
+
+    @Test
+    public void testDecideBookings_appliesBatchWithPerIdResults() {
+        Item foreignItem = itemRepository.save(new Item(null, "Foreign", "Not owned", true, otherUser, null));
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Booking approve = saveBooking(item, start, BookingStatus.WAITING);
+        Booking reject = saveBooking(item, start.plusDays(2), BookingStatus.WAITING);
+        Booking processed = saveBooking(item, start.plusDays(4), BookingStatus.APPROVED);
+        Booking untouched = saveBooking(item, start.plusDays(6), BookingStatus.WAITING);
+        Booking foreign = saveBooking(foreignItem, start, BookingStatus.WAITING);
+        long missingId = untouched.getId() + 1000;
+
+        List<BookingDecisionResultDto> results = bookingService.decideBookings(List.of(
+                new BookingDecisionDto(approve.getId(), true),
+                new BookingDecisionDto(reject.getId(), false),
+                new BookingDecisionDto(processed.getId(), false),
+                new BookingDecisionDto(foreign.getId(), true),
+                new BookingDecisionDto(missingId, true),
+                new BookingDecisionDto(approve.getId(), false)), owner.getId());
+
+        assertThat(results).containsExactly(
+                new BookingDecisionResultDto(approve.getId(), BookingStatus.APPROVED, null),
+                new BookingDecisionResultDto(reject.getId(), BookingStatus.REJECTED, null),
+                new BookingDecisionResultDto(processed.getId(), BookingStatus.APPROVED, "Бронирование уже обработано"),
+                new BookingDecisionResultDto(foreign.getId(), null,
+                        "Подтверждать бронирование может только владелец вещи"),
+                new BookingDecisionResultDto(missingId, null, "Бронирование не найдено"),
+                new BookingDecisionResultDto(approve.getId(), BookingStatus.APPROVED, "Бронирование уже обработано"));
+        // status filters run in the database, so they see the batch update
+        assertThat(bookingService.getBookingsByOwner(owner.getId(), BookingState.WAITING, null, null).bookings())
+                .extracting(BookingDto::getId).containsExactly(untouched.getId());
+        assertThat(bookingService.getBookingsByOwner(owner.getId(), BookingState.REJECTED, null, null).bookings())
+                .extracting(BookingDto::getId).containsExactly(reject.getId());
+        assertThat(bookingService.getBookingsByOwner(otherUser.getId(), BookingState.WAITING, null, null).bookings())
+                .extracting(BookingDto::getId).containsExactly(foreign.getId());
+    }
+
+    @Test
+    public void testDecideBookings_rejectsNullDecisionsAndApproved() {
+        Booking booking = saveBooking(item, LocalDateTime.now().plusDays(1), BookingStatus.WAITING);
+        List<BookingDecisionDto> withNullElement = new ArrayList<>();
+        withNullElement.add(new BookingDecisionDto(booking.getId(), true));
+        withNullElement.add(null);
+
+        assertThrows(ValidationException.class,
+                () -> bookingService.decideBookings(withNullElement, owner.getId()));
+        assertThrows(ValidationException.class, () -> bookingService.decideBookings(
+                List.of(new BookingDecisionDto(booking.getId(), null)), owner.getId()));
+        assertThat(bookingRepository.findById(booking.getId())).get()
+                .extracting(Booking::getStatus).isEqualTo(BookingStatus.WAITING);
+    }
+
+    private Booking saveBooking(Item bookedItem, LocalDateTime start, BookingStatus status) {
+        return bookingRepository.save(new Booking(null, start, start.plusDays(1), bookedItem, booker, status));
+    }
+
     // --- getBooking() ---
 
     @Test
@@ -289,7 +351,7 @@ public class BookingServiceImplTest {
         BookingDto savedToReject = bookingService.addBooking(bookingToReject, booker.getId());
         bookingService.approveBooking(savedToReject.getId(), false, owner.getId());
 
-        List<BookingDto> allBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.ALL);
+        List<BookingDto> allBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.ALL, null, null).bookings();
         assertThat(allBookings).hasSize(4);
     }
 
@@ -304,7 +366,7 @@ public class BookingServiceImplTest {
         currentBooking.setBookerId(booker.getId());
         BookingDto savedCurrent = bookingService.addBooking(currentBooking, booker.getId());
 
-        List<BookingDto> currentBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.CURRENT);
+        List<BookingDto> currentBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.CURRENT, null, null).bookings();
         assertThat(currentBookings).extracting(BookingDto::getId).contains(savedCurrent.getId());
     }
 
@@ -319,7 +381,7 @@ public class BookingServiceImplTest {
         pastBooking.setBookerId(booker.getId());
         BookingDto savedPast = bookingService.addBooking(pastBooking, booker.getId());
 
-        List<BookingDto> pastBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.PAST);
+        List<BookingDto> pastBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.PAST, null, null).bookings();
         assertThat(pastBookings).extracting(BookingDto::getId).contains(savedPast.getId());
     }
 
@@ -334,7 +396,7 @@ public class BookingServiceImplTest {
         futureBooking.setBookerId(booker.getId());
         BookingDto savedFuture = bookingService.addBooking(futureBooking, booker.getId());
 
-        List<BookingDto> futureBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.FUTURE);
+        List<BookingDto> futureBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.FUTURE, null, null).bookings();
         assertThat(futureBookings).extracting(BookingDto::getId).contains(savedFuture.getId());
     }
 
@@ -349,7 +411,7 @@ public class BookingServiceImplTest {
         waitingBooking.setBookerId(booker.getId());
         BookingDto savedWaiting = bookingService.addBooking(waitingBooking, booker.getId());
 
-        List<BookingDto> waitingBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.WAITING);
+        List<BookingDto> waitingBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.WAITING, null, null).bookings();
         waitingBookings.forEach(b -> assertThat(b.getStatus()).isEqualTo(BookingStatus.WAITING));
         assertThat(waitingBookings).extracting(BookingDto::getId).contains(savedWaiting.getId());
     }
@@ -366,7 +428,7 @@ public class BookingServiceImplTest {
         BookingDto savedToReject = bookingService.addBooking(bookingToReject, booker.getId());
         bookingService.approveBooking(savedToReject.getId(), false, owner.getId());
 
-        List<BookingDto> rejectedBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.REJECTED);
+        List<BookingDto> rejectedBookings = bookingService.getBookingsByBooker(booker.getId(), BookingState.REJECTED, null, null).bookings();
         rejectedBookings.forEach(b -> assertThat(b.getStatus()).isEqualTo(BookingStatus.REJECTED));
         assertThat(rejectedBookings).extracting(BookingDto::getId).contains(savedToReject.getId());
     }
@@ -385,7 +447,7 @@ public class BookingServiceImplTest {
         bookingDto.setBookerId(booker.getId());
         BookingDto savedBooking = bookingService.addBooking(bookingDto, booker.getId());
 
-        List<BookingDto> allBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.ALL);
+        List<BookingDto> allBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.ALL, null, null).bookings();
         assertThat(allBookings).hasSize(1);
         assertThat(allBookings.get(0).getId()).isEqualTo(savedBooking.getId());
     }
@@ -401,7 +463,7 @@ public class BookingServiceImplTest {
         currentBooking.setBookerId(booker.getId());
         BookingDto savedCurrent = bookingService.addBooking(currentBooking, booker.getId());
 
-        List<BookingDto> currentBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.CURRENT);
+        List<BookingDto> currentBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.CURRENT, null, null).bookings();
         assertThat(currentBookings).extracting(BookingDto::getId).contains(savedCurrent.getId());
     }
 
@@ -416,7 +478,7 @@ public class BookingServiceImplTest {
         pastBooking.setBookerId(booker.getId());
         BookingDto savedPast = bookingService.addBooking(pastBooking, booker.getId());
 
-        List<BookingDto> pastBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.PAST);
+        List<BookingDto> pastBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.PAST, null, null).bookings();
         assertThat(pastBookings).extracting(BookingDto::getId).contains(savedPast.getId());
     }
 
@@ -431,7 +493,7 @@ public class BookingServiceImplTest {
         futureBooking.setBookerId(booker.getId());
         BookingDto savedFuture = bookingService.addBooking(futureBooking, booker.getId());
 
-        List<BookingDto> futureBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.FUTURE);
+        List<BookingDto> futureBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.FUTURE, null, null).bookings();
         assertThat(futureBookings).extracting(BookingDto::getId).contains(savedFuture.getId());
     }
 
@@ -446,7 +508,7 @@ public class BookingServiceImplTest {
         waitingBooking.setBookerId(booker.getId());
         BookingDto savedWaiting = bookingService.addBooking(waitingBooking, booker.getId());
 
-        List<BookingDto> waitingBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.WAITING);
+        List<BookingDto> waitingBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.WAITING, null, null).bookings();
         waitingBookings.forEach(b -> assertThat(b.getStatus()).isEqualTo(BookingStatus.WAITING));
         assertThat(waitingBookings).extracting(BookingDto::getId).contains(savedWaiting.getId());
     }
@@ -463,8 +525,52 @@ public class BookingServiceImplTest {
         BookingDto savedToReject = bookingService.addBooking(bookingToReject, booker.getId());
         bookingService.approveBooking(savedToReject.getId(), false, owner.getId());
 
-        List<BookingDto> rejectedBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.REJECTED);
+        List<BookingDto> rejectedBookings = bookingService.getBookingsByOwner(owner.getId(), BookingState.REJECTED, null, null).bookings();
         rejectedBookings.forEach(b -> assertThat(b.getStatus()).isEqualTo(BookingStatus.REJECTED));
         assertThat(rejectedBookings).extracting(BookingDto::getId).contains(savedToReject.getId());
     }
-}
\ No newline at end of file
+
+    // --- keyset pagination ---
+
+    @Test
+    public void testGetBookingsByBooker_pagesWithCursor() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < 5; i++) {
+            BookingDto dto = new BookingDto();
+            dto.setStart(start.plusDays(i * 2L));
+            dto.setEnd(start.plusDays(i * 2L + 1));
+            dto.setItemId(item.getId());
+            bookingService.addBooking(dto, booker.getId());
+        }
+
+        BookingPage first = bookingService.getBookingsByBooker(booker.getId(), BookingState.ALL, null, 2);
+        BookingPage second = bookingService.getBookingsByBooker(booker.getId(), BookingState.ALL,
+                first.nextCursor(), 2);
+        BookingPage third = bookingService.getBookingsByBooker(booker.getId(), BookingState.ALL,
+                second.nextCursor(), 2);
+
+        assertThat(first.bookings()).extracting(BookingDto::getStart)
+                .containsExactly(start.plusDays(8), start.plusDays(6));
+        assertThat(second.bookings()).extracting(BookingDto::getStart)
+                .containsExactly(start.plusDays(4), start.plusDays(2));
+        assertThat(third.bookings()).extracting(BookingDto::getStart).containsExactly(start);
+        assertThat(third.nextCursor()).isNull();
+    }
+
+    @Test
+    public void testGetBookingsByOwner_sizeIsCappedAndValidated() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        BookingDto dto = new BookingDto();
+        dto.setStart(start);
+        dto.setEnd(start.plusDays(1));
+        dto.setItemId(item.getId());
+        bookingService.addBooking(dto, booker.getId());
+
+        assertThat(bookingService.getBookingsByOwner(owner.getId(), BookingState.ALL, null, 10_000).bookings())
+                .hasSize(1);
+        assertThrows(IllegalArgumentException.class, () ->
+                bookingService.getBookingsByOwner(owner.getId(), BookingState.ALL, null, 0));
+        assertThrows(IllegalArgumentException.class, () ->
+                bookingService.getBookingsByOwner(owner.getId(), BookingState.ALL, "not-a-cursor", 10));
+    }
+}
@@ -18,6 +18,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -50,6 +51,22 @@ class ItemControllerTest {
                 .andExpect(jsonPath("$.available").value(true));
     }
 
+    @Test
+    @DisplayName("POST /items/batch - Success")
+    void testAddItems() throws Exception {
+        List<ItemDto> items = List.of(new ItemDto(null, "Drill", "Cordless", true, null, null),
+                new ItemDto(null, "Saw", "Hand saw", true, null, null));
+        Mockito.when(itemService.addItems(eq(items), eq(1L))).thenReturn(List.of(10L, 11L));
+
+        mvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value(10))
+                .andExpect(jsonPath("$[1]").value(11));
+    }
+
     @Test
     @DisplayName("PATCH /items/{id} - Success")
     void testUpdateItem() throws Exception {
@@ -95,7 +112,7 @@ class ItemControllerTest {
     @DisplayName("GET /items/search - Success")
     void testSearchItems() throws Exception {
         ItemDto itemDto = new ItemDto(1L, "Searchable", "Unique description", true, null, Collections.emptyList());
-        Mockito.when(itemService.searchItems(eq("unique"))).thenReturn(List.of(itemDto));
+        Mockito.when(itemService.searchItems(eq("unique"), eq(0), isNull())).thenReturn(List.of(itemDto));
 
         mvc.perform(get("/items/search")
                         .param("text", "unique"))
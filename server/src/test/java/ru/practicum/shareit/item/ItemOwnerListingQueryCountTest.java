@@ -0,0 +1,102 @@
+package ru.practicum.shareit.item;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.item.comment.Comment;
+import ru.practicum.shareit.item.comment.CommentRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemOwnerDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@Transactional
+class ItemOwnerListingQueryCountTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void testGetItemsByOwner_queryCountDoesNotGrowWithItems(int itemCount) {
+        User owner = userRepository.save(new User(null, "Owner", "owner-" + itemCount + "@example.com"));
+        User booker = userRepository.save(new User(null, "Booker", "booker-" + itemCount + "@example.com"));
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new Item(null, "Item " + i, "Description " + i, true, owner, null));
+        }
+        itemRepository.saveAll(items);
+
+        List<Booking> bookings = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+        for (Item item : items) {
+            bookings.add(new Booking(null, now.minusDays(3), now.minusDays(2), item, booker, BookingStatus.APPROVED));
+            bookings.add(new Booking(null, now.minusDays(1), now.minusHours(1), item, booker, BookingStatus.APPROVED));
+            bookings.add(new Booking(null, now.plusDays(1), now.plusDays(2), item, booker, BookingStatus.WAITING));
+            bookings.add(new Booking(null, now.plusDays(3), now.plusDays(4), item, booker, BookingStatus.WAITING));
+            comments.add(new Comment(null, "Nice", item, booker, now.minusDays(1)));
+        }
+        bookingRepository.saveAll(bookings);
+        commentRepository.saveAll(comments);
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long started = System.nanoTime();
+        List<ItemDto> result = itemService.getItemsByOwner(owner.getId());
+        long elapsedMicros = (System.nanoTime() - started) / 1_000;
+
+        log.info("getItemsByOwner: {} items, {} statements, {} us",
+                itemCount, statistics.getPrepareStatementCount(), elapsedMicros);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(result).hasSize(itemCount);
+        assertThat(result).allSatisfy(dto -> {
+            ItemOwnerDto ownerDto = (ItemOwnerDto) dto;
+            assertThat(ownerDto.getComments()).hasSize(1);
+            assertThat(ownerDto.getLastBooking().getStart()).isEqualTo(now.minusDays(1));
+            assertThat(ownerDto.getNextBooking().getStart()).isEqualTo(now.plusDays(1));
+        });
+    }
+}
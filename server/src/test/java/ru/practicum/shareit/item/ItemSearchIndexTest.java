@@ -0,0 +1,109 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+@Slf4j
+class ItemSearchIndexTest {
+
+    private ItemRepository itemRepository;
+    private ItemSearchIndex index;
+    private List<Item> catalog;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = Mockito.mock(ItemRepository.class);
+        index = new ItemSearchIndex(itemRepository, new ItemSearchProperties(ItemSearchMode.INDEX));
+        catalog = new ArrayList<>(List.of(
+                item(1L, "Дрель ударная", "Мощная дрель для бетона", true),
+                item(2L, "Отвёртка", "Крестовая, подходит к дрели", true),
+                item(3L, "Шуруповёрт", "Аккумуляторная дрель-шуруповёрт", true),
+                item(4L, "Дрель старая", "Сломана", false)));
+        Mockito.when(itemRepository.findAll(any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(catalog, invocation.getArgument(0), catalog.size()));
+        index.rebuild();
+    }
+
+    @Test
+    void testSearch_substringSemanticsIgnoringCase() {
+        assertThat(index.search("ДРЕЛ", 0, 10)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search("бетон", 0, 10)).containsExactly(1L);
+        assertThat(index.search("пила", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void testSearch_ranksWholeWordAndNameMatchesFirst() {
+        assertThat(index.search("дрель", 0, 10)).containsExactly(1L, 3L);
+        assertThat(index.search("дрел", 0, 10)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void testSearch_shortQueriesAndPaging() {
+        assertThat(index.search("ь", 0, 10)).containsExactly(1L, 3L);
+        assertThat(index.search("дрел", 1, 1)).containsExactly(2L);
+        assertThat(index.search("дрел", 5, 10)).isEmpty();
+    }
+
+    @Test
+    void testIndex_updatesIncrementally() {
+        index.index(item(2L, "Отвёртка", "Плоская", true));
+        index.index(item(4L, "Дрель новая", "Починена", true));
+        index.index(item(1L, "Дрель ударная", "Мощная дрель для бетона", false));
+
+        assertThat(index.search("дрел", 0, 10)).containsExactly(4L, 3L);
+        assertThat(index.search("плоская", 0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    void testIndex_ignoredWhenAnotherModeSelected() {
+        ItemSearchIndex disabled = new ItemSearchIndex(itemRepository,
+                new ItemSearchProperties(ItemSearchMode.SUBSTRING));
+        disabled.index(item(5L, "Пила", "Ножовка", true));
+
+        assertThat(disabled.search("пила", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void testRebuild_memoryAndTimeForLargeCatalog() {
+        String[] words = {"дрель", "пила", "молоток", "лестница", "палатка", "велосипед", "самокат", "проектор"};
+        catalog = new ArrayList<>();
+        for (long id = 1; id <= 50_000; id++) {
+            String word = words[(int) (id % words.length)];
+            catalog.add(item(id, word + " " + id, "Хорошая " + word + ", модель " + (id * 31 % 997), true));
+        }
+        Mockito.when(itemRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(0);
+            int from = (int) pageable.getOffset();
+            int to = Math.min(catalog.size(), from + pageable.getPageSize());
+            return new PageImpl<>(catalog.subList(from, to), PageRequest.of(pageable.getPageNumber(),
+                    pageable.getPageSize(), pageable.getSort()), catalog.size());
+        });
+
+        long started = System.nanoTime();
+        index.rebuild();
+        long rebuildMillis = (System.nanoTime() - started) / 1_000_000;
+        started = System.nanoTime();
+        List<Long> hits = index.search("модель 42", 0, 20);
+        long searchMicros = (System.nanoTime() - started) / 1_000;
+
+        log.info("Index of {} items: rebuild {} ms, ~{} bytes/item, search {} us",
+                catalog.size(), rebuildMillis, index.estimateBytesPerItem(), searchMicros);
+        assertThat(hits).isNotEmpty();
+        assertThat(index.estimateBytesPerItem()).isPositive();
+    }
+
+    private static Item item(Long id, String name, String description, boolean available) {
+        return new Item(id, name, description, available, null, null);
+    }
+}
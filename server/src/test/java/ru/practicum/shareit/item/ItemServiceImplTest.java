@@ -19,6 +19,8 @@ import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.exception.ForbiddenException;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.ValidationException;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.BookingService;
 
@@ -87,6 +89,27 @@ public class ItemServiceImplTest {
         assertThat(created.getRequestId()).isEqualTo(request.getId());
     }
 
+    @Test
+    void testAddItems_createsAllForOwner() {
+        List<Long> ids = itemService.addItems(List.of(
+                new ItemDto(null, "Drill", "Cordless", true, null, null),
+                new ItemDto(null, "Saw", "Hand saw", false, request.getId(), null)), owner.getId());
+
+        assertThat(ids).hasSize(2);
+        assertThat(itemService.getItemsByOwner(owner.getId()))
+                .extracting(ItemDto::getId)
+                .contains(ids.get(0), ids.get(1));
+        assertThat(itemService.getItemById(ids.get(1), owner.getId()).getRequestId()).isEqualTo(request.getId());
+    }
+
+    @Test
+    void testAddItems_missingRequestThrowsException() {
+        List<ItemDto> items = List.of(new ItemDto(null, "Drill", "Cordless", true, request.getId() + 1000, null));
+
+        Exception exception = assertThrows(NotFoundException.class, () -> itemService.addItems(items, owner.getId()));
+        assertThat(exception.getMessage()).isEqualTo("Запрос не найден");
+    }
+
     @Test
     void testUpdateItem_success() {
         ItemDto created = itemService.addItem(createdItem, owner.getId());
@@ -154,11 +177,57 @@ public class ItemServiceImplTest {
         unavailableDto.setComments(List.of());
         itemService.addItem(unavailableDto, owner.getId());
 
-        List<ItemDto> results = itemService.searchItems("searchable");
+        List<ItemDto> results = itemService.searchItems("searchable", 0, 10);
         assertThat(results).extracting(ItemDto::getName).contains("Searchable Item");
         assertThat(results).extracting(ItemDto::getName).doesNotContain("Not Searchable Item");
     }
 
+    @Test
+    void testSearchItems_paginatesAvailableMatches() {
+        for (int i = 0; i < 5; i++) {
+            ItemDto dto = new ItemDto(null, "Paged drill " + i, "Drill", true, null, List.of());
+            itemService.addItem(dto, owner.getId());
+        }
+
+        List<ItemDto> firstPage = itemService.searchItems("PAGED DRILL", 0, 3);
+        List<ItemDto> secondPage = itemService.searchItems("paged drill", 3, 3);
+
+        assertThat(firstPage).extracting(ItemDto::getName)
+                .containsExactly("Paged drill 0", "Paged drill 1", "Paged drill 2");
+        assertThat(secondPage).extracting(ItemDto::getName)
+                .containsExactly("Paged drill 3", "Paged drill 4");
+    }
+
+    @Test
+    void testSearchItems_usesFromAsRowOffsetAndReturnsAllWithoutSize() {
+        for (int i = 0; i < 15; i++) {
+            ItemDto dto = new ItemDto(null, "Offset saw " + i, "Saw", true, null, List.of());
+            itemService.addItem(dto, owner.getId());
+        }
+
+        assertThat(itemService.searchItems("offset saw", 1, 2)).extracting(ItemDto::getName)
+                .containsExactly("Offset saw 1", "Offset saw 2");
+        assertThat(itemService.searchItems("offset saw", 0, null)).hasSize(15);
+        assertThat(itemService.searchItems("offset saw", 13, null)).extracting(ItemDto::getName)
+                .containsExactly("Offset saw 13", "Offset saw 14");
+    }
+
+    @Test
+    void testSearchItems_rejectsNonPositiveSize() {
+        Exception exception = assertThrows(ValidationException.class, () -> itemService.searchItems("saw", 0, 0));
+        assertThat(exception.getMessage()).isEqualTo("Размер страницы должен быть положительным");
+    }
+
+    @Test
+    void testSearchItems_treatsWildcardsLiterally() {
+        itemService.addItem(new ItemDto(null, "100% cotton", "Shirt", true, null, List.of()), owner.getId());
+        itemService.addItem(new ItemDto(null, "1000 cotton", "Shirt", true, null, List.of()), owner.getId());
+
+        assertThat(itemService.searchItems("0% c", 0, 10)).extracting(ItemDto::getName)
+                .containsExactly("100% cotton");
+        assertThat(itemService.searchItems("_", 0, 10)).isEmpty();
+    }
+
     @Test
     void testAddComment_withoutPastBookingThrowsException() {
         // Добавляем вещь
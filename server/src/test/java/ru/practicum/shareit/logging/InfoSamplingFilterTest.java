@@ -0,0 +1,46 @@
+package ru.practicum.shareit.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InfoSamplingFilterTest {
+
+    @Test
+    void testDecide_keepsOneOfEveryRateInfoEventsPerLogger() {
+        InfoSamplingFilter filter = new InfoSamplingFilter();
+        filter.setRate(10);
+
+        long kept = IntStream.range(0, 100)
+                .mapToObj(i -> filter.decide(event("ru.practicum.shareit.item.ItemServiceImpl", Level.INFO)))
+                .filter(reply -> reply == FilterReply.NEUTRAL)
+                .count();
+
+        assertThat(kept).isEqualTo(10);
+    }
+
+    @Test
+    void testDecide_neverSamplesWarningsOrForeignLoggers() {
+        InfoSamplingFilter filter = new InfoSamplingFilter();
+        filter.setRate(10);
+
+        assertThat(IntStream.range(0, 20)
+                .mapToObj(i -> filter.decide(event("ru.practicum.shareit.item.ItemServiceImpl", Level.WARN))))
+                .containsOnly(FilterReply.NEUTRAL);
+        assertThat(IntStream.range(0, 20)
+                .mapToObj(i -> filter.decide(event("org.hibernate.SQL", Level.INFO))))
+                .containsOnly(FilterReply.NEUTRAL);
+    }
+
+    private static LoggingEvent event(String loggerName, Level level) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(loggerName);
+        event.setLevel(level);
+        return event;
+    }
+}
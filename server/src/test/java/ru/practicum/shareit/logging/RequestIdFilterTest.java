@@ -0,0 +1,36 @@
+package ru.practicum.shareit.logging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RequestIdFilterTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void testRequest_echoesIncomingRequestId() throws Exception {
+        mvc.perform(get("/users").header(RequestIdFilter.HEADER, "gw-42"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(RequestIdFilter.HEADER, "gw-42"));
+    }
+
+    @Test
+    void testRequest_replacesMalformedRequestId() throws Exception {
+        String requestId = mvc.perform(get("/users").header(RequestIdFilter.HEADER, "bad id\nforged line"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(RequestIdFilter.HEADER);
+
+        assertThat(requestId).isNotBlank().doesNotContain(" ", "\n");
+    }
+}
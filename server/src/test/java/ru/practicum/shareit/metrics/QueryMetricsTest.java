@@ -0,0 +1,64 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.UserServiceImpl;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class QueryMetricsTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private UserService userService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void testGetUsers_recordsStatementsEntitiesAndServiceTimer() throws Exception {
+        userService.addUser(new UserDto(null, "Metered", "metered@example.com"));
+        entityManager.flush();
+        entityManager.clear();
+        long before = requestSummary("shareit.request.statements").map(DistributionSummary::count).orElse(0L);
+
+        mvc.perform(get("/users")).andExpect(status().isOk());
+
+        assertThat(requestSummary("shareit.request.statements")).get().satisfies(summary -> {
+            assertThat(summary.count()).isEqualTo(before + 1);
+            assertThat(summary.max()).isGreaterThanOrEqualTo(1);
+        });
+        assertThat(requestSummary("shareit.request.entities.loaded")).get()
+                .extracting(DistributionSummary::max).isNotEqualTo(0.0);
+        assertThat(registry.find("shareit.service")
+                .tag("class", UserServiceImpl.class.getName())
+                .tag("method", "getUsers")
+                .timer()).isNotNull();
+    }
+
+    private Optional<DistributionSummary> requestSummary(String name) {
+        return Optional.ofNullable(registry.find(name).tag("method", "GET").tag("uri", "/users").summary());
+    }
+}
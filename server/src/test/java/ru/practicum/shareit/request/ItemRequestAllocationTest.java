@@ -0,0 +1,106 @@
+package ru.practicum.shareit.request;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares per-call heap allocation of the request answers read through the {@link ItemShortDto}
+ * projection against hydrating the same rows as managed {@link Item} entities.
+ */
+@Slf4j
+@SpringBootTest
+@Transactional
+class ItemRequestAllocationTest {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void testFindShortByRequestId_allocatesLessThanEntities(int itemCount) {
+        User owner = userRepository.save(new User(null, "Owner", "alloc-owner-" + itemCount + "@example.com"));
+        User requestor = userRepository.save(new User(null, "Requestor", "alloc-req-" + itemCount + "@example.com"));
+        ItemRequest request = itemRequestRepository.save(
+                new ItemRequest(null, "Need tools", requestor, LocalDateTime.now()));
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new Item(null, "Item " + i, "Description " + i, true, owner, request));
+        }
+        itemRepository.saveAll(items);
+        entityManager.flush();
+        entityManager.clear();
+
+        long entityBytes = allocatedPerCall(() -> entityManager
+                .createQuery("select i from Item i where i.request.id = :requestId", Item.class)
+                .setParameter("requestId", request.getId())
+                .getResultStream()
+                .map(i -> new ItemShortDto(i.getId(), i.getName(), i.getOwner().getId()))
+                .toList());
+        long projectionBytes = allocatedPerCall(() -> itemRepository.findShortByRequestId(request.getId()));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ItemRequestDto result = itemRequestService.getRequestById(owner.getId(), request.getId());
+
+        log.info("Request answers: {} items, entities {} bytes/call, projection {} bytes/call",
+                itemCount, entityBytes, projectionBytes);
+        assertThat(result.getItems()).hasSize(itemCount);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(2);
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    private long allocatedPerCall(Supplier<?> call) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        call.get();
+        entityManager.clear();
+        long total = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            call.get();
+            total += threads.getThreadAllocatedBytes(threadId) - before;
+            entityManager.clear();
+        }
+        return total / ROUNDS;
+    }
+}
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.request;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@Transactional
+class ItemRequestListingQueryCountTest {
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void testRequestListings_queryCountDoesNotGrowWithPageSize(int pageSize) {
+        User requestor = userRepository.save(new User(null, "Requestor", "requestor-" + pageSize + "@example.com"));
+        User owner = userRepository.save(new User(null, "Owner", "answer-owner-" + pageSize + "@example.com"));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ItemRequest> requests = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            requests.add(new ItemRequest(null, "Request " + i, requestor, now.minusMinutes(i)));
+        }
+        itemRequestRepository.saveAll(requests);
+
+        List<Item> items = new ArrayList<>();
+        for (ItemRequest request : requests) {
+            items.add(new Item(null, "Answer A", "Description", true, owner, request));
+            items.add(new Item(null, "Answer B", "Description", true, owner, request));
+        }
+        itemRepository.saveAll(items);
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long started = System.nanoTime();
+        List<ItemRequestDto> all = itemRequestService.getAllRequests(owner.getId(), 0, pageSize);
+        long elapsedMicros = (System.nanoTime() - started) / 1_000;
+        long allStatements = statistics.getPrepareStatementCount();
+
+        log.info("getAllRequests: page of {}, {} statements, {} us", pageSize, allStatements, elapsedMicros);
+        assertThat(allStatements).isLessThanOrEqualTo(3);
+        assertThat(all).hasSize(pageSize);
+        assertThat(all).allSatisfy(dto -> assertThat(dto.getItems())
+                .extracting("name").containsExactlyInAnyOrder("Answer A", "Answer B"));
+
+        entityManager.clear();
+        statistics.clear();
+        started = System.nanoTime();
+        List<ItemRequestDto> own = itemRequestService.getUserRequests(requestor.getId());
+        elapsedMicros = (System.nanoTime() - started) / 1_000;
+
+        log.info("getUserRequests: {} requests, {} statements, {} us",
+                pageSize, statistics.getPrepareStatementCount(), elapsedMicros);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(own).hasSize(pageSize);
+        assertThat(own).allSatisfy(dto -> assertThat(dto.getItems()).hasSize(2));
+    }
+}
@@ -0,0 +1,98 @@
+package ru.practicum.shareit.user;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.ItemCache;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class UserCacheTest {
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private ItemCache itemCache;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testFindById_repeatedLookupsHitDatabaseOnce() {
+        UserDto user = userService.addUser(new UserDto(null, "Cached", "cached@example.com"));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        userCache.findById(user.getId());
+        entityManager.clear();
+        userCache.findById(user.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindById_missingUserIsNotCached() {
+        UserDto user = userService.addUser(new UserDto(null, "Later", "later@example.com"));
+        long missingId = user.getId() + 1000;
+
+        assertThat(userCache.findById(missingId)).isEmpty();
+        entityManager.clear();
+        statistics.clear();
+        assertThat(userCache.findById(missingId)).isEmpty();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testUpdateUser_evictsCachedUser() {
+        UserDto user = userService.addUser(new UserDto(null, "Before", "before@example.com"));
+        assertThat(userCache.findById(user.getId())).get().extracting(UserSummary::name).isEqualTo("Before");
+
+        userService.updateUser(user.getId(), new UserDto(null, "After", null));
+        entityManager.flush();
+
+        assertThat(userCache.findById(user.getId())).get().extracting(UserSummary::name).isEqualTo("After");
+    }
+
+    @Test
+    void testUpdateItem_evictsCachedItemSummary() {
+        UserDto owner = userService.addUser(new UserDto(null, "Owner", "cache-owner@example.com"));
+        ItemDto item = itemService.addItem(new ItemDto(null, "Drill", "Cordless", true, null, null), owner.getId());
+        assertThat(itemCache.findById(item.getId())).get().extracting("name").isEqualTo("Drill");
+
+        itemService.updateItem(item.getId(), new ItemDto(null, "Hammer", null, null, null, null), owner.getId());
+        entityManager.flush();
+
+        assertThat(itemCache.findById(item.getId())).get().extracting("name").isEqualTo("Hammer");
+    }
+}
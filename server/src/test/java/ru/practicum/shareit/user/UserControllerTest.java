@@ -8,14 +8,19 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserPage;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -80,15 +85,39 @@ class UserControllerTest {
     void testGetUsers() throws Exception {
         UserDto user1 = new UserDto(1L, "John Doe", "john@example.com");
         UserDto user2 = new UserDto(2L, "Jane Doe", "jane@example.com");
-        Mockito.when(userService.getUsers()).thenReturn(List.of(user1, user2));
+        Mockito.when(userService.getUsers(null, 2)).thenReturn(new UserPage(List.of(user1, user2), "2"));
 
-        mockMvc.perform(get("/users"))
+        mockMvc.perform(get("/users").param("size", "2"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "2"))
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[1].id").value(2L));
     }
 
+    @Test
+    void testExportUsers_writesOneJsonObjectPerLine() throws Exception {
+        UserDto user1 = new UserDto(1L, "John Doe", "john@example.com");
+        UserDto user2 = new UserDto(2L, "Jane Doe", "jane@example.com");
+        Mockito.doAnswer(invocation -> {
+            Consumer<UserDto> sink = invocation.getArgument(0);
+            sink.accept(user1);
+            sink.accept(user2);
+            return null;
+        }).when(userService).exportUsers(any());
+
+        MvcResult result = mockMvc.perform(get("/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines()).containsExactly(
+                objectMapper.writeValueAsString(user1), objectMapper.writeValueAsString(user2));
+    }
+
     @Test
     void testDeleteUser() throws Exception {
         // Допустим, метод deleteUser просто удаляет пользователя
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.user;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.exception.DuplicateEmailException;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Slf4j
+@SpringBootTest
+class UserRegistrationConcurrencyTest {
+
+    private static final int EMAILS = 50;
+    private static final int ATTEMPTS_PER_EMAIL = 8;
+    private static final int THREADS = 32;
+    private static final String DOMAIN = "@race.example.com";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE LOWER(email) LIKE ?", "%" + DOMAIN);
+    }
+
+    @Test
+    void testParallelRegistrations_admitExactlyOneUserPerEmail() throws Exception {
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int attempt = 0; attempt < ATTEMPTS_PER_EMAIL; attempt++) {
+            for (int email = 0; email < EMAILS; email++) {
+                // alternate the case so the index, not string equality, has to catch the clash
+                String address = "user" + email + DOMAIN;
+                UserDto dto = new UserDto(null, "Racer " + attempt,
+                        attempt % 2 == 0 ? address : address.toUpperCase(Locale.ROOT));
+                tasks.add(() -> {
+                    try {
+                        userService.addUser(dto);
+                        return true;
+                    } catch (DuplicateEmailException e) {
+                        return false;
+                    }
+                });
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        long registered = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                registered++;
+            }
+        }
+        log.info("Registration stress: {} attempts, {} registered, {} threads, {} attempts/s",
+                tasks.size(), registered, THREADS, Math.round(tasks.size() / seconds));
+
+        assertThat(registered).isEqualTo(EMAILS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT LOWER(email)) FROM users WHERE LOWER(email) LIKE ?", Long.class, "%" + DOMAIN))
+                .isEqualTo(EMAILS);
+    }
+
+    @Test
+    void testAddUser_isSingleInsert() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        userService.addUser(new UserDto(null, "Single", "single" + DOMAIN));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThrows(DuplicateEmailException.class,
+                () -> userService.addUser(new UserDto(null, "Shouty", "SINGLE" + DOMAIN)));
+    }
+}
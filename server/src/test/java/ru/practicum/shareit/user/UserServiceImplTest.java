@@ -7,7 +7,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.DuplicateEmailException;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserPage;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -71,10 +73,58 @@ class UserServiceImplTest {
     void testGetUsers() {
         userService.addUser(new UserDto(null, "User1", "user1@example.com"));
         userService.addUser(new UserDto(null, "User2", "user2@example.com"));
-        List<UserDto> users = userService.getUsers();
+        List<UserDto> users = userService.getUsers(null, null).users();
         assertThat(users).hasSizeGreaterThanOrEqualTo(2);
     }
 
+    @Test
+    void testGetUsers_withoutCursorOrSizeReturnsEveryUser() {
+        for (int i = 0; i <= 100; i++) {
+            userService.addUser(new UserDto(null, "All" + i, "all" + i + "@example.com"));
+        }
+
+        UserPage page = userService.getUsers(null, null);
+
+        assertThat(page.users()).hasSizeGreaterThan(100);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void testGetUsers_pagesByIdCursor() {
+        for (int i = 0; i < 5; i++) {
+            userService.addUser(new UserDto(null, "Paged" + i, "paged" + i + "@example.com"));
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            UserPage page = userService.getUsers(cursor, 2);
+            assertThat(page.users()).hasSizeLessThanOrEqualTo(2);
+            page.users().forEach(user -> seen.add(user.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).isSorted().doesNotHaveDuplicates().hasSizeGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void testGetUsers_rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> userService.getUsers("abc", 10));
+    }
+
+    @Test
+    void testExportUsers_streamsEveryUserInIdOrder() {
+        UserDto first = userService.addUser(new UserDto(null, "Export1", "export1@example.com"));
+        UserDto second = userService.addUser(new UserDto(null, "Export2", "export2@example.com"));
+
+        List<UserDto> exported = new ArrayList<>();
+        userService.exportUsers(exported::add);
+
+        assertThat(exported).extracting(UserDto::getId).isSorted().contains(first.getId(), second.getId());
+        assertThat(exported).filteredOn(user -> user.getId().equals(second.getId()))
+                .singleElement().extracting(UserDto::getEmail).isEqualTo("export2@example.com");
+    }
+
     @Test
     void testDeleteUser() {
         UserDto input = new UserDto(null, "John Doe", "john@example.com");